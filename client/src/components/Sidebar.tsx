@@ -3,12 +3,14 @@ import { Home, Search, Library, Plus, Heart, LogOut, Mail } from 'lucide-react';
 import { useNavigate, useLocation } from 'react-router-dom';
 import { useAuth } from '../contexts/AuthContext';
 import { useCollaboratorInvites } from '../hooks/useCollaboratorInvites';
+import { useRealtimeEvents } from '../hooks/useRealtimeEvents';
 
 export const Sidebar: React.FC = () => {
   const navigate = useNavigate();
   const location = useLocation();
   const { logout } = useAuth();
   const { data: invites } = useCollaboratorInvites();
+  useRealtimeEvents();
 
   const menuItems = [
     { icon: Home, label: 'Início', path: '/home' },
@@ -8,6 +8,6 @@ export const useCollaboratorInvites = () => {
       const response = await collaboratorService.getMyInvites();
       return response.content;
     },
-    refetchInterval: 30000,
+    staleTime: Infinity,
   });
 };
@@ -0,0 +1,106 @@
+import { useEffect } from 'react';
+import { useQueryClient } from '@tanstack/react-query';
+import api from '../services/api';
+
+const RECONNECT_DELAY_MS = 5000;
+
+interface PlaylistMusicsEvent {
+  playlistId: number;
+  musicIds: string[];
+}
+
+export const useRealtimeEvents = () => {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    let controller: AbortController | null = null;
+    let reconnectTimer: ReturnType<typeof setTimeout> | null = null;
+    let stopped = false;
+
+    const handleEvent = (type: string, data: string) => {
+      if (type.startsWith('invite.')) {
+        queryClient.invalidateQueries({ queryKey: ['collaboratorInvites'] });
+        queryClient.invalidateQueries({ queryKey: ['myPlaylists'] });
+        queryClient.invalidateQueries({ queryKey: ['accessiblePlaylists'] });
+      } else if (type.startsWith('playlist.musics.')) {
+        const event: PlaylistMusicsEvent = JSON.parse(data);
+        queryClient.invalidateQueries({ queryKey: ['playlist', String(event.playlistId)] });
+        queryClient.invalidateQueries({ queryKey: ['myPlaylists'] });
+      } else if (type === 'music.enriched') {
+        queryClient.invalidateQueries({ queryKey: ['musics'] });
+        queryClient.invalidateQueries({ queryKey: ['allMusics'] });
+        queryClient.invalidateQueries({ queryKey: ['likedMusics'] });
+        queryClient.invalidateQueries({ queryKey: ['playlist'] });
+      }
+    };
+
+    const connect = async () => {
+      const token = localStorage.getItem('token');
+      if (!token || stopped) {
+        return;
+      }
+
+      controller = new AbortController();
+      try {
+        const response = await fetch(`${api.defaults.baseURL}/events/stream`, {
+          headers: { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' },
+          signal: controller.signal,
+        });
+        if (!response.ok || !response.body) {
+          throw new Error(`SSE connection failed: ${response.status}`);
+        }
+
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+
+        while (!stopped) {
+          const { value, done } = await reader.read();
+          if (done) {
+            break;
+          }
+          buffer += decoder.decode(value, { stream: true });
+
+          let separator = buffer.indexOf('\n\n');
+          while (separator !== -1) {
+            const rawEvent = buffer.slice(0, separator);
+            buffer = buffer.slice(separator + 2);
+
+            let type = 'message';
+            const dataLines: string[] = [];
+            rawEvent.split('\n').forEach((line) => {
+              if (line.startsWith('event:')) {
+                type = line.slice(6).trim();
+              } else if (line.startsWith('data:')) {
+                dataLines.push(line.slice(5).trim());
+              }
+            });
+            if (dataLines.length > 0) {
+              handleEvent(type, dataLines.join('\n'));
+            }
+
+            separator = buffer.indexOf('\n\n');
+          }
+        }
+      } catch (error) {
+        if (stopped) {
+          return;
+        }
+      }
+
+      if (!stopped) {
+        reconnectTimer = setTimeout(connect, RECONNECT_DELAY_MS);
+      }
+    };
+
+    connect();
+
+    return () => {
+      stopped = true;
+      controller?.abort();
+      if (reconnectTimer) {
+        clearTimeout(reconnectTimer);
+      }
+    };
+  }, [queryClient]);
+};
@@ -66,4 +66,8 @@ export const playlistService = {
   removeMusicFromPlaylist: async (playlistId: number, musicId: string): Promise<void> => {
     await api.delete(`/playlists/${playlistId}/musics/${musicId}`);
   },
+
+  moveMusicInPlaylist: async (playlistId: number, musicId: string, afterMusicId: string | null): Promise<void> => {
+    await api.patch(`/playlists/${playlistId}/musics/${musicId}/position`, { afterMusicId });
+  },
 };
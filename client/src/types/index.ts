@@ -13,11 +13,14 @@ export interface LoginResponseDTO {
   token: string;
 }
 
+export type ImageRenditions = Partial<Record<'64' | '160' | '320' | '640', string>>;
+
 export interface User {
   id: number;
   name: string;
   email: string;
   avatarUrl?: string;
+  imageUrls?: ImageRenditions;
 }
 
 export interface UserProfileUpdateDTO {
@@ -37,8 +40,10 @@ export interface MusicResponseDTO {
   genre: string;
   band: string;
   imageUrl?: string;
+  imageUrls?: ImageRenditions;
   youtubeVideoId?: string;
   youtubeThumbnailUrl?: string;
+  youtubeStatus?: 'PENDING' | 'ENRICHED' | 'NOT_FOUND' | 'FAILED' | null;
   createdByUserId: number | null;
   createdByUserName: string;
   createdAt: string;
@@ -69,6 +74,7 @@ export interface PlaylistDTO {
   id: number;
   name: string;
   imageUrl?: string;
+  imageUrls?: ImageRenditions;
   imageFileId?: string;
   isPublic: boolean;
   userId: number;
@@ -96,6 +102,7 @@ export interface PlaylistWithMusicsDTO {
   id: number;
   name: string;
   imageUrl?: string;
+  imageUrls?: ImageRenditions;
   imageFileId?: string;
   isPublic: boolean;
   userId: number;
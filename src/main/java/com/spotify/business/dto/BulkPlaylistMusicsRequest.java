@@ -0,0 +1,12 @@
+package com.spotify.business.dto;
+import lombok.Data;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+@Data
+public class BulkPlaylistMusicsRequest {
+    @NotEmpty(message = "Informe ao menos uma música")
+    @Size(max = 500, message = "É possível enviar no máximo 500 músicas por vez")
+    private List<@NotBlank(message = "ID da música é obrigatório") String> musicIds;
+}
@@ -0,0 +1,32 @@
+package com.spotify.business.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPlaylistMusicsResultDTO {
+    private int succeeded;
+    private int failed;
+    private List<Item> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String musicId;
+        private Status status;
+    }
+
+    public enum Status {
+        ADDED,
+        REMOVED,
+        ALREADY_IN_PLAYLIST,
+        NOT_IN_PLAYLIST,
+        MUSIC_NOT_FOUND
+    }
+}
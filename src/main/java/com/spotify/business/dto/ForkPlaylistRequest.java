@@ -0,0 +1,9 @@
+package com.spotify.business.dto;
+import lombok.Data;
+import jakarta.validation.constraints.Size;
+@Data
+public class ForkPlaylistRequest {
+    @Size(max = 200, message = "Nome deve ter no máximo 200 caracteres")
+    private String name;
+    private Boolean isPublic;
+}
@@ -0,0 +1,6 @@
+package com.spotify.business.dto;
+import lombok.Data;
+@Data
+public class MoveMusicRequest {
+    private String afterMusicId;
+}
@@ -1,7 +1,11 @@
 package com.spotify.business.dto;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class MusicInPlaylistDTO {
     private String id;
     private String name;
@@ -2,6 +2,7 @@ package com.spotify.business.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public class MusicResponseDTO {
     private String id;
@@ -9,8 +10,10 @@ public class MusicResponseDTO {
     private String genre;
     private String band;
     private String imageUrl;
+    private Map<String, String> imageUrls;
     private String youtubeVideoId;
     private String youtubeThumbnailUrl;
+    private String youtubeStatus;
     private Long createdByUserId;
     private String createdByUserName;
     private LocalDateTime createdAt;
@@ -41,12 +44,18 @@ public class MusicResponseDTO {
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
 
+    public Map<String, String> getImageUrls() { return imageUrls; }
+    public void setImageUrls(Map<String, String> imageUrls) { this.imageUrls = imageUrls; }
+
     public String getYoutubeVideoId() { return youtubeVideoId; }
     public void setYoutubeVideoId(String youtubeVideoId) { this.youtubeVideoId = youtubeVideoId; }
 
     public String getYoutubeThumbnailUrl() { return youtubeThumbnailUrl; }
     public void setYoutubeThumbnailUrl(String youtubeThumbnailUrl) { this.youtubeThumbnailUrl = youtubeThumbnailUrl; }
 
+    public String getYoutubeStatus() { return youtubeStatus; }
+    public void setYoutubeStatus(String youtubeStatus) { this.youtubeStatus = youtubeStatus; }
+
     public Long getCreatedByUserId() { return createdByUserId; }
     public void setCreatedByUserId(Long createdByUserId) { this.createdByUserId = createdByUserId; }
 
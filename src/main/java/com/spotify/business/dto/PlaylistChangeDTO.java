@@ -0,0 +1,14 @@
+package com.spotify.business.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class PlaylistChangeDTO {
+    private Long version;
+    private String type;
+    private String musicId;
+    private Integer position;
+    private LocalDateTime changedAt;
+}
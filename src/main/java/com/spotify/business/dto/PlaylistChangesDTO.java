@@ -0,0 +1,16 @@
+package com.spotify.business.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlaylistChangesDTO {
+    private Long playlistId;
+    private Long version;
+    private boolean snapshot;
+    private List<PlaylistChangeDTO> changes;
+    private PlaylistWithMusicsDTO playlist;
+}
@@ -1,6 +1,7 @@
 package com.spotify.business.dto;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import lombok.Data;
 
@@ -9,12 +10,14 @@ public class PlaylistDTO {
     private Long id;
     private String name;
     private String imageUrl;
+    private Map<String, String> imageUrls;
     private String imageFileId;
     private Boolean isPublic;
     private Long userId;
     private String userName;
     private Integer musicCount;
     private Boolean isCollaborator;
+    private Boolean isSmart;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -2,6 +2,7 @@ package com.spotify.business.dto;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import lombok.Data;
 
@@ -10,12 +11,15 @@ public class PlaylistWithMusicsDTO {
     private Long id;
     private String name;
     private String imageUrl;
+    private Map<String, String> imageUrls;
     private String imageFileId;
     private Boolean isPublic;
     private Long userId;
     private String userName;
     private List<MusicInPlaylistDTO> musics;
     private Boolean isCollaborator;
+    private Boolean isSmart;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,18 @@
+package com.spotify.business.dto;
+import lombok.Data;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+@Data
+public class SmartPlaylistRulesDTO {
+    @Size(max = 50, message = "Gênero deve ter no máximo 50 caracteres")
+    private String genre;
+    @Size(max = 50, message = "Informe no máximo 50 bandas")
+    private List<@NotBlank @Size(max = 200) String> bands;
+    private Boolean likedByMe;
+    @Min(value = 1, message = "O período deve ser de pelo menos 1 dia")
+    @Max(value = 3650, message = "O período deve ser de no máximo 3650 dias")
+    private Integer addedWithinDays;
+}
@@ -1,10 +1,13 @@
 package com.spotify.business.dto;
 
+import java.util.Map;
+
 public class UserProfileResponseDTO {
     private Long id;
     private String name;
     private String email;
     private String avatarUrl;
+    private Map<String, String> imageUrls;
 
     public UserProfileResponseDTO() {}
 
@@ -23,4 +26,6 @@ public class UserProfileResponseDTO {
     public void setEmail(String email) { this.email = email; }
     public String getAvatarUrl() { return avatarUrl; }
     public void setAvatarUrl(String avatarUrl) { this.avatarUrl = avatarUrl; }
+    public Map<String, String> getImageUrls() { return imageUrls; }
+    public void setImageUrls(Map<String, String> imageUrls) { this.imageUrls = imageUrls; }
 }
@@ -4,14 +4,17 @@ import com.spotify.business.dto.MusicResponseDTO;
 import com.spotify.entities.Music;
 import com.spotify.entities.User;
 import com.spotify.repositories.LikeRepository;
+import com.spotify.services.ImageRenditionService;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MusicMapper {
     private final LikeRepository likeRepository;
+    private final ImageRenditionService imageRenditionService;
 
-    public MusicMapper(LikeRepository likeRepository) {
+    public MusicMapper(LikeRepository likeRepository, ImageRenditionService imageRenditionService) {
         this.likeRepository = likeRepository;
+        this.imageRenditionService = imageRenditionService;
     }
 
     public MusicResponseDTO toResponseDTO(Music music) {
@@ -23,6 +26,9 @@ public class MusicMapper {
         dto.setImageUrl(music.getImageUrl());
         dto.setYoutubeVideoId(music.getYoutubeVideoId());
         dto.setYoutubeThumbnailUrl(music.getYoutubeThumbnailUrl());
+        dto.setYoutubeStatus(music.getYoutubeStatus() != null ? music.getYoutubeStatus().name() : null);
+        dto.setImageUrls(imageRenditionService.renditionsFor(
+                music.getImageUrl() != null ? music.getImageUrl() : music.getYoutubeThumbnailUrl()));
 
         if (music.getCreatedBy() != null) {
             dto.setCreatedByUserId(music.getCreatedBy().getId());
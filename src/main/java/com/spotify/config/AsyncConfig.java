@@ -0,0 +1,115 @@
+package com.spotify.config;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    private final boolean virtualThreads;
+
+    public AsyncConfig(Environment environment) {
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    @Bean(name = "playlistMaintenanceExecutor")
+    public Executor playlistMaintenanceExecutor() {
+        if (virtualThreads) {
+            return virtualExecutor("playlist-maintenance-", 2, false);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("playlist-maintenance-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "smartPlaylistExecutor")
+    public Executor smartPlaylistExecutor() {
+        if (virtualThreads) {
+            return virtualExecutor("smart-playlist-", 4, false);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("smart-playlist-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "youtubeEnrichmentExecutor")
+    public Executor youtubeEnrichmentExecutor() {
+        if (virtualThreads) {
+            return virtualExecutor("youtube-enrichment-", 4, true);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("youtube-enrichment-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "youtubeSearchExecutor")
+    public Executor youtubeSearchExecutor() {
+        if (virtualThreads) {
+            return virtualExecutor("youtube-search-", 8, true);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("youtube-search-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "upstreamExecutor")
+    public Executor upstreamExecutor() {
+        if (virtualThreads) {
+            return virtualExecutor("upstream-", 24, true);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(24);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("upstream-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "imageRenditionExecutor")
+    public Executor imageRenditionExecutor() {
+        if (virtualThreads) {
+            return virtualExecutor("image-rendition-", 2, true);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("image-rendition-");
+        executor.initialize();
+        return executor;
+    }
+
+    private Executor virtualExecutor(String threadNamePrefix, int concurrencyLimit, boolean rejectWhenLimitReached) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setRejectTasksWhenLimitReached(rejectWhenLimitReached);
+        return executor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.spotify.config;
+
+import com.spotify.services.PlaylistAccessCache;
+import com.spotify.services.PlaylistDetailCache;
+import com.spotify.services.PublicPlaylistCache;
+import com.spotify.services.RealtimeEventService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       PlaylistAccessCache playlistAccessCache,
+                                                                       PlaylistDetailCache playlistDetailCache,
+                                                                       PublicPlaylistCache publicPlaylistCache,
+                                                                       RealtimeEventService realtimeEventService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            playlistAccessCache.evictLocal(Long.valueOf(body));
+        }, new ChannelTopic(PlaylistAccessCache.INVALIDATION_CHANNEL));
+
+        container.addMessageListener((message, pattern) ->
+                playlistDetailCache.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(PlaylistDetailCache.INVALIDATION_CHANNEL));
+
+        container.addMessageListener((message, pattern) ->
+                publicPlaylistCache.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(PublicPlaylistCache.INVALIDATION_CHANNEL));
+
+        container.addMessageListener((message, pattern) ->
+                realtimeEventService.deliverLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(RealtimeEventService.EVENTS_CHANNEL));
+
+        return container;
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.http.HttpMethod;
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableWebSecurity
@@ -37,6 +38,7 @@ public class SecurityConfig {
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configure(http))
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(
                     "/swagger-ui/**",
                     "/v3/api-docs/**",
@@ -48,6 +50,8 @@ public class SecurityConfig {
                     "/users/password-reset/**",
                     "/error"
                 ).permitAll()
+                .requestMatchers(HttpMethod.GET, "/files/**").permitAll()
+                .requestMatchers(HttpMethod.HEAD, "/files/**").permitAll()
                 .requestMatchers(HttpMethod.DELETE, "/users/**").authenticated()
                 .requestMatchers("/musics/**").authenticated()
                 .requestMatchers("/likes/**").authenticated()
@@ -21,7 +21,7 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(rateLimitInterceptor)
                 .addPathPatterns("/**")
-                .excludePathPatterns("/swagger-ui/**", "/v3/api-docs/**");
+                .excludePathPatterns("/swagger-ui/**", "/v3/api-docs/**", "/files/**");
 
         registry.addInterceptor(legacyRateLimitInterceptor)
                 .addPathPatterns("/users/**");
@@ -0,0 +1,34 @@
+package com.spotify.controllers;
+
+import com.spotify.services.RealtimeEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/events")
+@Tag(name = "Eventos", description = "Eventos em tempo real via Server-Sent Events")
+public class EventController {
+
+    private final RealtimeEventService realtimeEventService;
+
+    public EventController(RealtimeEventService realtimeEventService) {
+        this.realtimeEventService = realtimeEventService;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream de eventos",
+        description = "Mantém uma conexão SSE aberta e envia convites de colaboração e alterações de músicas nas playlists do usuário",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public SseEmitter stream(Authentication authentication) {
+        return realtimeEventService.subscribe(authentication.getName());
+    }
+}
@@ -5,6 +5,7 @@ import com.spotify.business.dto.MusicRequestDTO;
 import com.spotify.business.dto.MusicResponseDTO;
 import com.spotify.business.security.StrictRateLimit;
 import com.spotify.services.MusicService;
+import com.spotify.services.UpstreamCallExecutor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,15 +19,18 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/musics")
 @Tag(name = "Músicas", description = "Endpoints para gerenciamento de músicas")
 public class MusicController {
     private final MusicService musicService;
+    private final UpstreamCallExecutor upstreamCallExecutor;
 
-    public MusicController(MusicService musicService) {
+    public MusicController(MusicService musicService, UpstreamCallExecutor upstreamCallExecutor) {
         this.musicService = musicService;
+        this.upstreamCallExecutor = upstreamCallExecutor;
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -36,7 +40,7 @@ public class MusicController {
         description = "Adiciona uma nova música para o usuário autenticado. A imagem deve ter dimensões de 640x640 pixels",
         security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<ResponseDTO<MusicResponseDTO>> addMusic(
+    public CompletableFuture<ResponseEntity<ResponseDTO<MusicResponseDTO>>> addMusic(
             @RequestParam("name") String name,
             @RequestParam("genre") String genre,
             @RequestParam("band") String band,
@@ -48,10 +52,13 @@ public class MusicController {
         requestDTO.setGenre(genre);
         requestDTO.setBand(band);
 
-        MusicResponseDTO music = musicService.addMusic(requestDTO, image, authentication.getName());
-        return ResponseEntity.status(HttpStatus.CREATED).body(
-            ResponseDTO.success(music, "Música adicionada com sucesso")
-        );
+        String email = authentication.getName();
+        return upstreamCallExecutor.submitMutation(UpstreamCallExecutor.Upstream.IMAGEKIT, () -> {
+            MusicResponseDTO music = musicService.addMusic(requestDTO, image, email);
+            return ResponseEntity.status(HttpStatus.CREATED).body(
+                ResponseDTO.success(music, "Música adicionada com sucesso")
+            );
+        });
     }
 
     @DeleteMapping("/{musicId}")
@@ -133,15 +140,18 @@ public class MusicController {
         description = "Busca no YouTube usando um trecho de letra e adiciona a primeira música encontrada",
         security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<ResponseDTO<MusicResponseDTO>> addMusicByLyrics(
+    public CompletableFuture<ResponseEntity<ResponseDTO<MusicResponseDTO>>> addMusicByLyrics(
             @RequestParam("lyrics") String lyrics,
             @RequestParam("genre") String genre,
             Authentication authentication) {
 
-        MusicResponseDTO music = musicService.addMusicByLyrics(lyrics, genre, authentication.getName());
-        return ResponseEntity.status(HttpStatus.CREATED).body(
-            ResponseDTO.success(music, "Música adicionada com sucesso")
-        );
+        String email = authentication.getName();
+        return upstreamCallExecutor.submitMutation(UpstreamCallExecutor.Upstream.YOUTUBE, () -> {
+            MusicResponseDTO music = musicService.addMusicByLyrics(lyrics, genre, email);
+            return ResponseEntity.status(HttpStatus.CREATED).body(
+                ResponseDTO.success(music, "Música adicionada com sucesso")
+            );
+        });
     }
 
     @PostMapping("/search-lyrics-options")
@@ -150,13 +160,15 @@ public class MusicController {
         description = "Busca no YouTube usando um trecho de letra e retorna as 3 primeiras opções",
         security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<ResponseDTO<List<Map<String, String>>>> searchLyricsOptions(
+    public CompletableFuture<ResponseEntity<ResponseDTO<List<Map<String, String>>>>> searchLyricsOptions(
             @RequestParam("lyrics") String lyrics,
             Authentication authentication) {
-        List<Map<String, String>> options = musicService.searchMusicOptionsByLyrics(lyrics);
-        return ResponseEntity.ok(
-            ResponseDTO.success(options, "Opções encontradas")
-        );
+        return upstreamCallExecutor.submit(UpstreamCallExecutor.Upstream.YOUTUBE, () -> {
+            List<Map<String, String>> options = musicService.searchMusicOptionsByLyrics(lyrics);
+            return ResponseEntity.ok(
+                ResponseDTO.success(options, "Opções encontradas")
+            );
+        });
     }
 
     @PostMapping("/add-selected-music")
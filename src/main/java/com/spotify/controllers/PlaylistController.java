@@ -1,9 +1,11 @@
 package com.spotify.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spotify.business.ResponseDTO;
 import com.spotify.business.dto.*;
 import com.spotify.services.PlaylistService;
 import com.spotify.services.PlaylistCollaboratorService;
+import com.spotify.services.SmartPlaylistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,7 +16,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -22,13 +27,22 @@ import java.util.List;
 @Tag(name = "Playlists", description = "Endpoints para gerenciamento de playlists")
 public class PlaylistController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int STREAM_FLUSH_EVERY = 200;
+
     private final PlaylistService playlistService;
     private final PlaylistCollaboratorService collaboratorService;
+    private final SmartPlaylistService smartPlaylistService;
+    private final ObjectMapper objectMapper;
 
     public PlaylistController(PlaylistService playlistService,
-                             PlaylistCollaboratorService collaboratorService) {
+                             PlaylistCollaboratorService collaboratorService,
+                             SmartPlaylistService smartPlaylistService,
+                             ObjectMapper objectMapper) {
         this.playlistService = playlistService;
         this.collaboratorService = collaboratorService;
+        this.smartPlaylistService = smartPlaylistService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -46,6 +60,66 @@ public class PlaylistController {
                 .body(new ResponseDTO<>(playlist, "Playlist criada com sucesso"));
     }
 
+    @PostMapping("/smart")
+    @Operation(
+        summary = "Criar playlist inteligente",
+        description = "Cria uma playlist cujas músicas são definidas por regras (gênero, bandas, curtidas e período de cadastro) e mantidas atualizadas automaticamente",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<PlaylistDTO>> createSmartPlaylist(
+            @Valid @RequestBody CreateSmartPlaylistRequest request,
+            Authentication authentication) {
+
+        PlaylistDTO playlist = smartPlaylistService.createSmartPlaylist(request, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ResponseDTO<>(playlist, "Playlist inteligente criada com sucesso"));
+    }
+
+    @GetMapping("/{playlistId}/rules")
+    @Operation(
+        summary = "Regras da playlist inteligente",
+        description = "Retorna as regras que definem as músicas de uma playlist inteligente",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<SmartPlaylistRulesDTO>> getSmartPlaylistRules(
+            @PathVariable Long playlistId,
+            Authentication authentication) {
+
+        SmartPlaylistRulesDTO rules = smartPlaylistService.getRules(playlistId, authentication.getName());
+        return ResponseEntity.ok(new ResponseDTO<>(rules, "Regras recuperadas com sucesso"));
+    }
+
+    @PutMapping("/{playlistId}/rules")
+    @Operation(
+        summary = "Atualizar regras da playlist inteligente",
+        description = "Substitui as regras da playlist inteligente e recalcula suas músicas",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<PlaylistDTO>> updateSmartPlaylistRules(
+            @PathVariable Long playlistId,
+            @Valid @RequestBody SmartPlaylistRulesDTO request,
+            Authentication authentication) {
+
+        PlaylistDTO playlist = smartPlaylistService.updateRules(playlistId, request, authentication.getName());
+        return ResponseEntity.ok(new ResponseDTO<>(playlist, "Regras atualizadas com sucesso"));
+    }
+
+    @PostMapping("/{playlistId}/fork")
+    @Operation(
+        summary = "Duplicar playlist",
+        description = "Cria uma cópia da playlist, com todas as suas músicas, para o usuário autenticado",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<PlaylistDTO>> forkPlaylist(
+            @PathVariable Long playlistId,
+            @Valid @RequestBody(required = false) ForkPlaylistRequest request,
+            Authentication authentication) {
+
+        PlaylistDTO playlist = playlistService.forkPlaylist(playlistId, request, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ResponseDTO<>(playlist, "Playlist duplicada com sucesso"));
+    }
+
     @PutMapping("/{playlistId}")
     @Operation(
         summary = "Atualizar playlist",
@@ -98,6 +172,18 @@ public class PlaylistController {
         return ResponseEntity.ok(new ResponseDTO<>(playlists, "Playlists públicas recuperadas com sucesso"));
     }
 
+    @GetMapping("/public/paged")
+    @Operation(
+        summary = "Listar playlists públicas (paginado)",
+        description = "Lista as playlists públicas com paginação por cursor. Use o nextCursor retornado para buscar a próxima página"
+    )
+    public ResponseEntity<ResponseDTO<CursorPageDTO<PlaylistDTO>>> getPublicPlaylistsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageDTO<PlaylistDTO> playlists = playlistService.getPublicPlaylistsPage(cursor, limit);
+        return ResponseEntity.ok(new ResponseDTO<>(playlists, "Playlists públicas recuperadas com sucesso"));
+    }
+
     @GetMapping
     @Operation(
         summary = "Listar playlists acessíveis",
@@ -111,6 +197,22 @@ public class PlaylistController {
         return ResponseEntity.ok(new ResponseDTO<>(playlists, "Playlists recuperadas com sucesso"));
     }
 
+    @GetMapping("/paged")
+    @Operation(
+        summary = "Listar playlists acessíveis (paginado)",
+        description = "Lista as playlists públicas, as do usuário autenticado e as que ele colabora, com paginação por cursor",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<CursorPageDTO<PlaylistDTO>>> getAccessiblePlaylistsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+
+        CursorPageDTO<PlaylistDTO> playlists = playlistService.getAccessiblePlaylistsPage(
+            authentication.getName(), cursor, limit);
+        return ResponseEntity.ok(new ResponseDTO<>(playlists, "Playlists recuperadas com sucesso"));
+    }
+
     @GetMapping("/{playlistId}")
     @Operation(
         summary = "Buscar playlist por ID",
@@ -125,6 +227,89 @@ public class PlaylistController {
         return ResponseEntity.ok(new ResponseDTO<>(playlist, "Playlist recuperada com sucesso"));
     }
 
+    @GetMapping("/{playlistId}/header")
+    @Operation(
+        summary = "Cabeçalho da playlist",
+        description = "Retorna apenas os metadados da playlist e a quantidade de músicas, sem a lista de faixas",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<PlaylistDTO>> getPlaylistHeader(
+            @PathVariable Long playlistId,
+            Authentication authentication) {
+
+        PlaylistDTO playlist = playlistService.getPlaylistHeader(playlistId, authentication.getName());
+        return ResponseEntity.ok(new ResponseDTO<>(playlist, "Playlist recuperada com sucesso"));
+    }
+
+    @GetMapping(value = "/{playlistId}/musics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Listar músicas da playlist (paginado)",
+        description = "Lista as músicas da playlist em ordem, com paginação por cursor de posição. Use o nextCursor retornado para buscar a próxima página",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<CursorPageDTO<MusicInPlaylistDTO>>> getPlaylistMusics(
+            @PathVariable Long playlistId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+
+        CursorPageDTO<MusicInPlaylistDTO> musics =
+                playlistService.getPlaylistMusicsPage(playlistId, cursor, limit, authentication.getName());
+        return ResponseEntity.ok(new ResponseDTO<>(musics, "Músicas recuperadas com sucesso"));
+    }
+
+    @GetMapping(value = "/{playlistId}/musics", produces = NDJSON)
+    @Operation(
+        summary = "Transmitir músicas da playlist (NDJSON)",
+        description = "Transmite todas as músicas da playlist em ordem, uma por linha (application/x-ndjson)",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<StreamingResponseBody> streamPlaylistMusics(
+            @PathVariable Long playlistId,
+            Authentication authentication) {
+
+        playlistService.assertCanView(playlistId, authentication.getName());
+
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            try {
+                playlistService.streamPlaylistMusics(playlistId, music -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(music));
+                        out.write('\n');
+                        if (++written[0] % STREAM_FLUSH_EVERY == 0) {
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    @GetMapping("/{playlistId}/changes")
+    @Operation(
+        summary = "Alterações da playlist desde uma versão",
+        description = "Retorna apenas as alterações feitas após a versão informada. Quando o histórico não cobre a versão, retorna a playlist completa (snapshot)",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<PlaylistChangesDTO>> getPlaylistChanges(
+            @PathVariable Long playlistId,
+            @RequestParam long since,
+            Authentication authentication) {
+
+        PlaylistChangesDTO changes = playlistService.getPlaylistChanges(playlistId, since, authentication.getName());
+        return ResponseEntity.ok(new ResponseDTO<>(changes, "Alterações recuperadas com sucesso"));
+    }
+
     @PostMapping("/{playlistId}/musics")
     @Operation(
         summary = "Adicionar música à playlist",
@@ -140,6 +325,54 @@ public class PlaylistController {
         return ResponseEntity.ok(new ResponseDTO<>(null, "Música adicionada à playlist com sucesso"));
     }
 
+    @PostMapping("/{playlistId}/musics/bulk")
+    @Operation(
+        summary = "Adicionar várias músicas à playlist",
+        description = "Adiciona uma lista de músicas à playlist em uma única requisição e retorna o resultado de cada item",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<BulkPlaylistMusicsResultDTO>> addMusicsToPlaylist(
+            @PathVariable Long playlistId,
+            @Valid @RequestBody BulkPlaylistMusicsRequest request,
+            Authentication authentication) {
+
+        BulkPlaylistMusicsResultDTO result = playlistService.addMusicsToPlaylist(
+            playlistId, request, authentication.getName());
+        return ResponseEntity.ok(new ResponseDTO<>(result, "Músicas processadas com sucesso"));
+    }
+
+    @PostMapping("/{playlistId}/musics/bulk-remove")
+    @Operation(
+        summary = "Remover várias músicas da playlist",
+        description = "Remove uma lista de músicas da playlist em uma única requisição e retorna o resultado de cada item",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<BulkPlaylistMusicsResultDTO>> removeMusicsFromPlaylist(
+            @PathVariable Long playlistId,
+            @Valid @RequestBody BulkPlaylistMusicsRequest request,
+            Authentication authentication) {
+
+        BulkPlaylistMusicsResultDTO result = playlistService.removeMusicsFromPlaylist(
+            playlistId, request, authentication.getName());
+        return ResponseEntity.ok(new ResponseDTO<>(result, "Músicas processadas com sucesso"));
+    }
+
+    @PatchMapping("/{playlistId}/musics/{musicId}/position")
+    @Operation(
+        summary = "Reordenar música na playlist",
+        description = "Move uma música para logo após afterMusicId. Sem afterMusicId, a música vai para o início da playlist",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ResponseDTO<Void>> moveMusicInPlaylist(
+            @PathVariable Long playlistId,
+            @PathVariable String musicId,
+            @RequestBody MoveMusicRequest request,
+            Authentication authentication) {
+
+        playlistService.moveMusicInPlaylist(playlistId, musicId, request, authentication.getName());
+        return ResponseEntity.ok(new ResponseDTO<>(null, "Música reordenada com sucesso"));
+    }
+
     @PostMapping(value = "/{playlistId}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(
         summary = "Upload de imagem da playlist",
@@ -13,6 +13,7 @@ import com.spotify.business.dto.ChangePasswordDTO;
 import com.spotify.business.security.RateLimit;
 import com.spotify.services.AuthService;
 import com.spotify.services.PasswordResetService;
+import com.spotify.services.UpstreamCallExecutor;
 import com.spotify.services.UserProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -27,6 +28,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/users")
 @Tag(name = "Usuários", description = "Endpoints para gerenciamento de usuários")
@@ -35,12 +38,14 @@ public class UserController {
     private final AuthService authService;
     private final PasswordResetService passwordResetService;
     private final UserProfileService userProfileService;
+    private final UpstreamCallExecutor upstreamCallExecutor;
 
-    public UserController(UserService userService, AuthService authService, PasswordResetService passwordResetService, UserProfileService userProfileService) {
+    public UserController(UserService userService, AuthService authService, PasswordResetService passwordResetService, UserProfileService userProfileService, UpstreamCallExecutor upstreamCallExecutor) {
         this.userService = userService;
         this.authService = authService;
         this.passwordResetService = passwordResetService;
         this.userProfileService = userProfileService;
+        this.upstreamCallExecutor = upstreamCallExecutor;
     }
 
     @PostMapping("/register")
@@ -129,11 +134,14 @@ public class UserController {
         description = "Faz upload de uma nova foto de perfil",
         security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<ResponseDTO<UserProfileResponseDTO>> updateAvatar(
+    public CompletableFuture<ResponseEntity<ResponseDTO<UserProfileResponseDTO>>> updateAvatar(
             @RequestParam("avatar") MultipartFile avatar,
-            Authentication authentication) throws Exception {
-        UserProfileResponseDTO profile = userProfileService.updateAvatar(authentication.getName(), avatar);
-        return ResponseEntity.ok(ResponseDTO.success(profile, "Avatar atualizado com sucesso"));
+            Authentication authentication) {
+        String email = authentication.getName();
+        return upstreamCallExecutor.submitMutation(UpstreamCallExecutor.Upstream.IMAGEKIT, () -> {
+            UserProfileResponseDTO profile = userProfileService.updateAvatar(email, avatar);
+            return ResponseEntity.ok(ResponseDTO.success(profile, "Avatar atualizado com sucesso"));
+        });
     }
 
     @DeleteMapping("/profile/avatar")
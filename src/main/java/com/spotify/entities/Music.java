@@ -10,6 +10,8 @@ import java.time.LocalDateTime;
 @Setter
 @Table(name = "music", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"name", "band"})
+}, indexes = {
+    @Index(name = "idx_music_youtube_status_next_attempt", columnList = "youtube_status, youtube_next_attempt_at")
 })
 public class Music {
     @Id
@@ -37,6 +39,16 @@ public class Music {
     @Column(name = "youtube_thumbnail_url", length = 500)
     private String youtubeThumbnailUrl;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "youtube_status", length = 20)
+    private YoutubeStatus youtubeStatus;
+
+    @Column(name = "youtube_attempts")
+    private Integer youtubeAttempts = 0;
+
+    @Column(name = "youtube_next_attempt_at")
+    private LocalDateTime youtubeNextAttemptAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_user_id", nullable = true,
                 foreignKey = @ForeignKey(name = "fk_music_created_by_user"))
@@ -47,4 +59,11 @@ public class Music {
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public enum YoutubeStatus {
+        PENDING,
+        ENRICHED,
+        NOT_FOUND,
+        FAILED
+    }
 }
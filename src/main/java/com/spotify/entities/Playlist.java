@@ -28,6 +28,15 @@ public class Playlist {
     @Column(nullable = false)
     private Boolean isPublic = false;
 
+    @Column(name = "is_smart")
+    private Boolean smart = false;
+
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
+    @Column(name = "next_position", insertable = false, updatable = false)
+    private Long nextPosition;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false,
                 foreignKey = @ForeignKey(name = "fk_playlist_user"))
@@ -0,0 +1,46 @@
+package com.spotify.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "playlist_change", indexes = {
+    @Index(name = "idx_playlist_change_playlist_version", columnList = "playlist_id, version"),
+    @Index(name = "idx_playlist_change_created_at", columnList = "created_at")
+})
+public class PlaylistChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "playlist_id", nullable = false)
+    private Long playlistId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ChangeType type;
+
+    @Column(name = "music_id", length = 36)
+    private String musicId;
+
+    @Column(name = "position")
+    private Integer position;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public enum ChangeType {
+        MUSIC_ADDED,
+        MUSIC_REMOVED,
+        MUSIC_MOVED,
+        METADATA_UPDATED,
+        POSITIONS_RESET
+    }
+}
@@ -0,0 +1,51 @@
+package com.spotify.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "smart_playlist_rule", indexes = {
+    @Index(name = "idx_smart_playlist_rule_genre", columnList = "genre")
+})
+public class SmartPlaylistRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "playlist_id", nullable = false, unique = true,
+                foreignKey = @ForeignKey(name = "fk_smart_playlist_rule_playlist"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Playlist playlist;
+
+    @Column(length = 50)
+    private String genre;
+
+    @ElementCollection
+    @CollectionTable(name = "smart_playlist_rule_band",
+                     joinColumns = @JoinColumn(name = "rule_id"),
+                     foreignKey = @ForeignKey(name = "fk_smart_playlist_rule_band_rule"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @Column(name = "band", length = 200, nullable = false)
+    private Set<String> bands = new HashSet<>();
+
+    @Column(name = "liked_by_owner", nullable = false)
+    private Boolean likedByOwner = false;
+
+    @Column(name = "added_within_days")
+    private Integer addedWithinDays;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
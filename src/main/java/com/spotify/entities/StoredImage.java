@@ -0,0 +1,34 @@
+package com.spotify.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "stored_image", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_stored_image_content_hash", columnNames = "content_hash"),
+    @UniqueConstraint(name = "uk_stored_image_file_id", columnNames = "file_id")
+})
+public class StoredImage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "file_id", nullable = false, length = 100)
+    private String fileId;
+
+    @Column(nullable = false, length = 500)
+    private String url;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
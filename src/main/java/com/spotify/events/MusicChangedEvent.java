@@ -0,0 +1,10 @@
+package com.spotify.events;
+
+public record MusicChangedEvent(String musicId, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
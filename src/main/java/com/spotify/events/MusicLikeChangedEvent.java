@@ -0,0 +1,4 @@
+package com.spotify.events;
+
+public record MusicLikeChangedEvent(Long userId, String musicId, boolean liked) {
+}
@@ -71,6 +71,12 @@ public class GlobalExceptionHandler {
         return ResponseDTO.error("DUPLICATE_MUSIC", ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseDTO<Void> handleServiceUnavailable(ServiceUnavailableException ex) {
+        return ResponseDTO.error("SERVICE_UNAVAILABLE", ex.getMessage());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseDTO<Void> handleIllegalArgument(IllegalArgumentException ex) {
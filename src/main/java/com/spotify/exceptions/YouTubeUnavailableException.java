@@ -0,0 +1,17 @@
+package com.spotify.exceptions;
+
+import java.io.IOException;
+import java.time.Instant;
+
+public class YouTubeUnavailableException extends IOException {
+    private final Instant retryAt;
+
+    public YouTubeUnavailableException(String message, Instant retryAt) {
+        super(message);
+        this.retryAt = retryAt;
+    }
+
+    public Instant getRetryAt() {
+        return retryAt;
+    }
+}
@@ -4,8 +4,15 @@ import com.spotify.entities.Music;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +20,79 @@ public interface MusicRepository extends JpaRepository<Music, String> {
     boolean existsByNameAndBand(String name, String band);
     Optional<Music> findByNameAndBand(String name, String band);
     Page<Music> findAll(Pageable pageable);
+
+    @Query("SELECT m.id FROM Music m WHERE m.youtubeStatus = :status " +
+           "AND (m.youtubeNextAttemptAt IS NULL OR m.youtubeNextAttemptAt <= :now) " +
+           "ORDER BY m.youtubeNextAttemptAt ASC NULLS FIRST")
+    List<String> findDueForEnrichment(@Param("status") Music.YoutubeStatus status,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Music m SET m.youtubeVideoId = :videoId, m.youtubeThumbnailUrl = :thumbnailUrl, " +
+           "m.youtubeStatus = :status, m.youtubeNextAttemptAt = NULL " +
+           "WHERE m.id = :id AND m.name = :name AND m.band = :band AND m.youtubeStatus = :expected")
+    int completeEnrichment(@Param("id") String id,
+                           @Param("name") String name,
+                           @Param("band") String band,
+                           @Param("videoId") String videoId,
+                           @Param("thumbnailUrl") String thumbnailUrl,
+                           @Param("status") Music.YoutubeStatus status,
+                           @Param("expected") Music.YoutubeStatus expected);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Music m SET m.youtubeStatus = :status, m.youtubeAttempts = :attempts, " +
+           "m.youtubeNextAttemptAt = :nextAttemptAt " +
+           "WHERE m.id = :id AND m.name = :name AND m.band = :band AND m.youtubeStatus = :expected")
+    int updateEnrichmentState(@Param("id") String id,
+                              @Param("name") String name,
+                              @Param("band") String band,
+                              @Param("status") Music.YoutubeStatus status,
+                              @Param("attempts") Integer attempts,
+                              @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                              @Param("expected") Music.YoutubeStatus expected);
+
+    @Query("SELECT m FROM Music m WHERE m.id > :after AND (" +
+           "(m.youtubeVideoId IS NULL AND (m.youtubeStatus IS NULL OR (m.youtubeStatus IN :retryable " +
+           "AND (m.youtubeNextAttemptAt IS NULL OR m.youtubeNextAttemptAt <= :now)))) " +
+           "OR (m.youtubeVideoId IS NOT NULL AND (m.youtubeStatus IS NULL OR m.youtubeThumbnailUrl IS NULL) " +
+           "AND (m.youtubeStatus IS NULL OR m.youtubeStatus <> :pending))) " +
+           "ORDER BY m.id ASC")
+    List<Music> findBackfillCandidates(@Param("after") String after,
+                                       @Param("retryable") Collection<Music.YoutubeStatus> retryable,
+                                       @Param("pending") Music.YoutubeStatus pending,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Music m SET m.youtubeStatus = :pending, m.youtubeAttempts = 0, m.youtubeNextAttemptAt = :nextAttemptAt " +
+           "WHERE m.id IN :ids AND m.youtubeVideoId IS NULL " +
+           "AND (m.youtubeStatus IS NULL OR m.youtubeStatus IN :retryable)")
+    int requeueForEnrichment(@Param("ids") Collection<String> ids,
+                             @Param("retryable") Collection<Music.YoutubeStatus> retryable,
+                             @Param("pending") Music.YoutubeStatus pending,
+                             @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Music m SET m.youtubeThumbnailUrl = :thumbnailUrl, m.youtubeStatus = :status, " +
+           "m.youtubeNextAttemptAt = NULL " +
+           "WHERE m.id = :id AND m.youtubeVideoId = :videoId")
+    int refreshYoutubeVideo(@Param("id") String id,
+                            @Param("videoId") String videoId,
+                            @Param("thumbnailUrl") String thumbnailUrl,
+                            @Param("status") Music.YoutubeStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Music m SET m.youtubeVideoId = NULL, m.youtubeThumbnailUrl = NULL, m.youtubeStatus = :pending, " +
+           "m.youtubeAttempts = 0, m.youtubeNextAttemptAt = :nextAttemptAt " +
+           "WHERE m.id = :id AND m.youtubeVideoId = :videoId")
+    int resetRemovedVideo(@Param("id") String id,
+                          @Param("videoId") String videoId,
+                          @Param("pending") Music.YoutubeStatus pending,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
 }
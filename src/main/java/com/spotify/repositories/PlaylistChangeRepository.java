@@ -0,0 +1,20 @@
+package com.spotify.repositories;
+import com.spotify.entities.PlaylistChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+@Repository
+public interface PlaylistChangeRepository extends JpaRepository<PlaylistChange, Long> {
+    List<PlaylistChange> findByPlaylistIdAndVersionGreaterThanOrderByVersionAscIdAsc(Long playlistId, Long version);
+    boolean existsByPlaylistIdAndVersion(Long playlistId, Long version);
+    @Modifying
+    @Query("DELETE FROM PlaylistChange c WHERE c.playlistId = :playlistId")
+    int deleteByPlaylistId(@Param("playlistId") Long playlistId);
+    @Modifying
+    @Query("DELETE FROM PlaylistChange c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,5 +24,11 @@ public interface PlaylistCollaboratorRepository extends JpaRepository<PlaylistCo
     @Query("SELECT CASE WHEN COUNT(pc) > 0 THEN true ELSE false END FROM PlaylistCollaborator pc " +
            "WHERE pc.playlist = :playlist AND pc.user = :user AND pc.status = 'ACCEPTED'")
     boolean isUserCollaborator(@Param("playlist") Playlist playlist, @Param("user") User user);
+    
+    @Query("SELECT pc.user.id FROM PlaylistCollaborator pc WHERE pc.playlist.id = :playlistId AND pc.status = 'ACCEPTED'")
+    List<Long> findAcceptedUserIds(@Param("playlistId") Long playlistId);
+    
+    @Query("SELECT pc.playlist.id, pc.user.id FROM PlaylistCollaborator pc " +
+           "WHERE pc.playlist.id IN :playlistIds AND pc.status = 'ACCEPTED'")
+    List<Object[]> findAcceptedUserIdsByPlaylistIds(@Param("playlistIds") Collection<Long> playlistIds);
 }
-
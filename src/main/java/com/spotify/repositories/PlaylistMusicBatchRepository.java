@@ -0,0 +1,80 @@
+package com.spotify.repositories;
+
+import com.spotify.entities.SmartPlaylistRule;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class PlaylistMusicBatchRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO playlist_music (playlist_id, music_id, position, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlaylistMusicBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(Long playlistId, List<String> musicIds, int firstPosition, int gap, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                statement.setLong(1, playlistId);
+                statement.setString(2, musicIds.get(index));
+                statement.setInt(3, firstPosition + index * gap);
+                statement.setTimestamp(4, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return musicIds.size();
+            }
+        });
+    }
+
+    public int insertMatching(Long playlistId, Long ownerId, SmartPlaylistRule rule,
+                              int gap, int maxRows, LocalDateTime createdAt) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO playlist_music (playlist_id, music_id, position, created_at) " +
+                "SELECT ?, m.id, ROW_NUMBER() OVER (ORDER BY m.created_at, m.id) * ?, ? " +
+                "FROM music m WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        args.add(playlistId);
+        args.add(gap);
+        args.add(Timestamp.valueOf(createdAt));
+
+        if (rule.getGenre() != null) {
+            sql.append(" AND LOWER(TRIM(m.genre)) = ?");
+            args.add(rule.getGenre());
+        }
+        if (!rule.getBands().isEmpty()) {
+            sql.append(" AND LOWER(TRIM(m.band)) IN (")
+                    .append(String.join(", ", Collections.nCopies(rule.getBands().size(), "?")))
+                    .append(")");
+            args.addAll(rule.getBands());
+        }
+        if (Boolean.TRUE.equals(rule.getLikedByOwner())) {
+            sql.append(" AND EXISTS (SELECT 1 FROM music_like l WHERE l.music_id = m.id AND l.user_id = ?)");
+            args.add(ownerId);
+        }
+        if (rule.getAddedWithinDays() != null) {
+            sql.append(" AND m.created_at >= ?");
+            args.add(Timestamp.valueOf(createdAt.minusDays(rule.getAddedWithinDays())));
+        }
+
+        sql.append(" ORDER BY m.created_at, m.id LIMIT ?");
+        args.add(maxRows);
+
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -1,17 +1,86 @@
 package com.spotify.repositories;
+import com.spotify.business.dto.MusicInPlaylistDTO;
 import com.spotify.entities.Playlist;
 import com.spotify.entities.PlaylistMusic;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 @Repository
 public interface PlaylistMusicRepository extends JpaRepository<PlaylistMusic, Long> {
     List<PlaylistMusic> findByPlaylistOrderByPositionAsc(Playlist playlist);
+    @Query("SELECT pm FROM PlaylistMusic pm JOIN FETCH pm.music WHERE pm.playlist.id = :playlistId ORDER BY pm.position ASC")
+    List<PlaylistMusic> findWithMusicByPlaylistId(@Param("playlistId") Long playlistId);
+    @Query("SELECT new com.spotify.business.dto.MusicInPlaylistDTO(m.id, m.name, m.genre, m.band, m.imageUrl, " +
+           "m.imageFileId, m.youtubeVideoId, m.youtubeThumbnailUrl, pm.position, pm.createdAt) " +
+           "FROM PlaylistMusic pm JOIN pm.music m WHERE pm.playlist.id = :playlistId " +
+           "ORDER BY pm.position ASC")
+    List<MusicInPlaylistDTO> findTracksFirstPage(@Param("playlistId") Long playlistId, Pageable pageable);
+    @Query("SELECT new com.spotify.business.dto.MusicInPlaylistDTO(m.id, m.name, m.genre, m.band, m.imageUrl, " +
+           "m.imageFileId, m.youtubeVideoId, m.youtubeThumbnailUrl, pm.position, pm.createdAt) " +
+           "FROM PlaylistMusic pm JOIN pm.music m WHERE pm.playlist.id = :playlistId AND pm.position > :after " +
+           "ORDER BY pm.position ASC")
+    List<MusicInPlaylistDTO> findTracksAfter(@Param("playlistId") Long playlistId,
+                                             @Param("after") Integer after,
+                                             Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.spotify.business.dto.MusicInPlaylistDTO(m.id, m.name, m.genre, m.band, m.imageUrl, " +
+           "m.imageFileId, m.youtubeVideoId, m.youtubeThumbnailUrl, pm.position, pm.createdAt) " +
+           "FROM PlaylistMusic pm JOIN pm.music m WHERE pm.playlist.id = :playlistId " +
+           "ORDER BY pm.position ASC")
+    Stream<MusicInPlaylistDTO> streamTracks(@Param("playlistId") Long playlistId);
     Optional<PlaylistMusic> findByPlaylistAndMusicId(Playlist playlist, String musicId);
     @Query("SELECT MAX(pm.position) FROM PlaylistMusic pm WHERE pm.playlist = :playlist")
     Optional<Integer> findMaxPositionByPlaylist(@Param("playlist") Playlist playlist);
+    @Query("SELECT MIN(pm.position) FROM PlaylistMusic pm WHERE pm.playlist = :playlist AND pm.id <> :excludedId")
+    Optional<Integer> findFirstPositionExcluding(@Param("playlist") Playlist playlist, @Param("excludedId") Long excludedId);
+    @Query("SELECT MIN(pm.position) FROM PlaylistMusic pm " +
+           "WHERE pm.playlist = :playlist AND pm.position > :position AND pm.id <> :excludedId")
+    Optional<Integer> findNextPositionExcluding(@Param("playlist") Playlist playlist,
+                                                @Param("position") Integer position,
+                                                @Param("excludedId") Long excludedId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE playlist_music pm SET position = ranked.rn * :gap " +
+                   "FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY position, id) AS rn " +
+                   "FROM playlist_music WHERE playlist_id = :playlistId) ranked " +
+                   "WHERE pm.id = ranked.id", nativeQuery = true)
+    int renumberPositions(@Param("playlistId") Long playlistId, @Param("gap") int gap);
     void deleteByPlaylistAndMusicId(Playlist playlist, String musicId);
+    @Query("SELECT pm.music.id FROM PlaylistMusic pm WHERE pm.playlist = :playlist AND pm.music.id IN :musicIds")
+    List<String> findMusicIdsInPlaylist(@Param("playlist") Playlist playlist, @Param("musicIds") Collection<String> musicIds);
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO playlist_music (playlist_id, music_id, position, created_at) " +
+                   "SELECT :targetId, music_id, position, :createdAt " +
+                   "FROM playlist_music WHERE playlist_id = :sourceId", nativeQuery = true)
+    int copyPlaylistMusics(@Param("sourceId") Long sourceId,
+                           @Param("targetId") Long targetId,
+                           @Param("createdAt") LocalDateTime createdAt);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PlaylistMusic pm WHERE pm.playlist = :playlist AND pm.music.id IN :musicIds")
+    int deleteByPlaylistAndMusicIds(@Param("playlist") Playlist playlist, @Param("musicIds") Collection<String> musicIds);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PlaylistMusic pm WHERE pm.playlist.id = :playlistId AND pm.music.id IN :musicIds")
+    int deleteByPlaylistIdAndMusicIds(@Param("playlistId") Long playlistId, @Param("musicIds") Collection<String> musicIds);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PlaylistMusic pm WHERE pm.playlist.id = :playlistId")
+    int deleteAllByPlaylistId(@Param("playlistId") Long playlistId);
+    @Query("SELECT DISTINCT pm.playlist.id FROM PlaylistMusic pm WHERE pm.music.id IN :musicIds")
+    List<Long> findPlaylistIdsContaining(@Param("musicIds") Collection<String> musicIds);
+    @Query("SELECT pm.playlist.id FROM PlaylistMusic pm WHERE pm.music.id = :musicId AND pm.playlist.smart = true")
+    List<Long> findSmartPlaylistIdsContaining(@Param("musicId") String musicId);
+    long countByPlaylist(Playlist playlist);
+    @Query("SELECT pm.playlist.id, COUNT(pm) FROM PlaylistMusic pm WHERE pm.playlist.id IN :playlistIds GROUP BY pm.playlist.id")
+    List<Object[]> countByPlaylistIds(@Param("playlistIds") Collection<Long> playlistIds);
+    @Query("SELECT pm.playlist.id, COUNT(pm) FROM PlaylistMusic pm WHERE pm.playlist.isPublic = true GROUP BY pm.playlist.id")
+    List<Object[]> countByPublicPlaylists();
 }
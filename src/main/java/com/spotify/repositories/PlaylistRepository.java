@@ -1,10 +1,15 @@
 package com.spotify.repositories;
 import com.spotify.entities.Playlist;
 import com.spotify.entities.User;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 @Repository
@@ -12,6 +17,8 @@ public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
     List<Playlist> findByUserOrderByCreatedAtDesc(User user);
     @Query("SELECT p FROM Playlist p WHERE p.isPublic = true ORDER BY p.createdAt DESC")
     List<Playlist> findAllPublicPlaylists();
+    @Query("SELECT p FROM Playlist p JOIN FETCH p.user WHERE p.isPublic = true")
+    List<Playlist> findAllPublicPlaylistsWithOwner();
     @Query("SELECT p FROM Playlist p WHERE (p.isPublic = true OR p.user.id = :userId) ORDER BY p.createdAt DESC")
     List<Playlist> findAllAccessiblePlaylists(@Param("userId") Long userId);
     @Query("SELECT DISTINCT p FROM Playlist p " +
@@ -24,5 +31,44 @@ public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
            "WHERE p.isPublic = true OR p.user.id = :userId OR (c.user.id = :userId AND c.status = 'ACCEPTED') " +
            "ORDER BY p.createdAt DESC")
     List<Playlist> findAllAccessiblePlaylistsIncludingCollaborations(@Param("userId") Long userId);
+    @Query("SELECT p FROM Playlist p JOIN FETCH p.user " +
+           "WHERE (p.isPublic = true OR p.user.id = :userId OR EXISTS (" +
+           "SELECT c.id FROM PlaylistCollaborator c WHERE c.playlist = p AND c.user.id = :userId AND c.status = 'ACCEPTED')) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Playlist> findAccessiblePlaylistsFirstPage(@Param("userId") Long userId, Pageable pageable);
+    @Query("SELECT p FROM Playlist p JOIN FETCH p.user " +
+           "WHERE (p.isPublic = true OR p.user.id = :userId OR EXISTS (" +
+           "SELECT c.id FROM PlaylistCollaborator c WHERE c.playlist = p AND c.user.id = :userId AND c.status = 'ACCEPTED')) " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Playlist> findAccessiblePlaylistsAfter(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+    @Query("SELECT p FROM Playlist p JOIN FETCH p.user WHERE p.id = :id")
+    Optional<Playlist> findByIdWithOwner(@Param("id") Long id);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Playlist p WHERE p.id = :id")
+    Optional<Playlist> findByIdForUpdate(@Param("id") Long id);
+    @Modifying
+    @Query(value = "UPDATE playlist SET change_version = COALESCE(change_version, 0) + 1 WHERE id = :id", nativeQuery = true)
+    int incrementChangeVersion(@Param("id") Long id);
+    @Query(value = "SELECT COALESCE(change_version, 0) FROM playlist WHERE id = :id", nativeQuery = true)
+    Long findChangeVersion(@Param("id") Long id);
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE playlist SET next_position = COALESCE(next_position, " +
+                   "(SELECT COALESCE(MAX(pm.position), 0) FROM playlist_music pm WHERE pm.playlist_id = :id)) + :span " +
+                   "WHERE id = :id", nativeQuery = true)
+    int advanceNextPosition(@Param("id") Long id, @Param("span") long span);
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE playlist SET next_position = " +
+                   "(SELECT COALESCE(MAX(pm.position), 0) FROM playlist_music pm WHERE pm.playlist_id = :id) " +
+                   "WHERE id = :id", nativeQuery = true)
+    int resetNextPosition(@Param("id") Long id);
+    @Query(value = "SELECT next_position FROM playlist WHERE id = :id", nativeQuery = true)
+    Long findNextPosition(@Param("id") Long id);
+    @Modifying
+    @Query("UPDATE Playlist p SET p.updatedAt = :updatedAt WHERE p.id = :id")
+    int touch(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
     Optional<Playlist> findByIdAndUser(Long id, User user);
 }
@@ -0,0 +1,29 @@
+package com.spotify.repositories;
+import com.spotify.entities.SmartPlaylistRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+@Repository
+public interface SmartPlaylistRuleRepository extends JpaRepository<SmartPlaylistRule, Long> {
+    @Query("SELECT r FROM SmartPlaylistRule r LEFT JOIN FETCH r.bands WHERE r.playlist.id = :playlistId")
+    Optional<SmartPlaylistRule> findByPlaylistIdWithBands(@Param("playlistId") Long playlistId);
+    @Query("SELECT r FROM SmartPlaylistRule r " +
+           "WHERE (r.genre IS NULL OR r.genre = :genre) " +
+           "AND (r.bands IS EMPTY OR :band MEMBER OF r.bands) " +
+           "AND (r.likedByOwner = false OR EXISTS (" +
+           "SELECT l.id FROM com.spotify.entities.Like l WHERE l.user = r.playlist.user AND l.music.id = :musicId))")
+    List<SmartPlaylistRule> findMatchingRules(@Param("musicId") String musicId,
+                                              @Param("genre") String genre,
+                                              @Param("band") String band);
+    @Query(value = "SELECT pm.playlist_id, pm.music_id FROM playlist_music pm " +
+                   "JOIN smart_playlist_rule r ON r.playlist_id = pm.playlist_id " +
+                   "JOIN music m ON m.id = pm.music_id " +
+                   "WHERE r.added_within_days IS NOT NULL " +
+                   "AND m.created_at < CAST(:now AS timestamp) - r.added_within_days * INTERVAL '1 day'",
+           nativeQuery = true)
+    List<Object[]> findExpiredTracks(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,42 @@
+package com.spotify.repositories;
+
+import com.spotify.entities.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+    Optional<StoredImage> findByContentHash(String contentHash);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount + 1 WHERE s.contentHash = :contentHash")
+    int acquire(@Param("contentHash") String contentHash);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO stored_image (content_hash, file_id, url, ref_count, created_at) " +
+                   "VALUES (:contentHash, :fileId, :url, 1, :createdAt) " +
+                   "ON CONFLICT (content_hash) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash,
+                       @Param("fileId") String fileId,
+                       @Param("url") String url,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount - 1 WHERE s.fileId = :fileId AND s.refCount > 0")
+    int release(@Param("fileId") String fileId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StoredImage s WHERE s.fileId = :fileId AND s.refCount <= 0")
+    int deleteUnreferenced(@Param("fileId") String fileId);
+}
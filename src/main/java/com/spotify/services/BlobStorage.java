@@ -0,0 +1,15 @@
+package com.spotify.services;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+public interface BlobStorage {
+
+    StoredBlob store(MultipartFile file, String folder, String fileName) throws IOException;
+
+    void delete(String fileId) throws IOException;
+
+    record StoredBlob(String fileId, String url) {
+    }
+}
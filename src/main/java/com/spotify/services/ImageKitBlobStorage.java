@@ -0,0 +1,144 @@
+package com.spotify.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotify.exceptions.ServiceUnavailableException;
+import io.imagekit.sdk.ImageKit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "imagekit", matchIfMissing = true)
+public class ImageKitBlobStorage implements BlobStorage {
+    private static final Duration UPLOAD_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration UPLOAD_PERMIT_WAIT = Duration.ofSeconds(10);
+
+    private final ImageKit imageKit;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    private final Semaphore uploadPermits;
+    private final String uploadUrl;
+    private final String authorization;
+
+    public ImageKitBlobStorage(ImageKit imageKit,
+                               ObjectMapper objectMapper,
+                               @Value("${imagekit.private-key:}") String privateKey,
+                               @Value("${imagekit.upload-url:https://upload.imagekit.io/api/v1/files/upload}") String uploadUrl,
+                               @Value("${imagekit.max-concurrent-uploads:4}") int maxConcurrentUploads) {
+        this.imageKit = imageKit;
+        this.objectMapper = objectMapper;
+        this.uploadUrl = uploadUrl;
+        this.uploadPermits = new Semaphore(maxConcurrentUploads);
+        this.authorization = "Basic " + Base64.getEncoder()
+            .encodeToString((privateKey + ":").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public StoredBlob store(MultipartFile file, String folder, String fileName) throws IOException {
+        acquireUploadPermit();
+
+        try {
+            String boundary = "----spotify-" + UUID.randomUUID();
+
+            String head = formField(boundary, "fileName", fileName)
+                + formField(boundary, "folder", folder)
+                + formField(boundary, "useUniqueFileName", "false")
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: " + file.getContentType() + "\r\n\r\n";
+            String tail = "\r\n--" + boundary + "--\r\n";
+
+            byte[] headBytes = head.getBytes(StandardCharsets.UTF_8);
+            byte[] tailBytes = tail.getBytes(StandardCharsets.UTF_8);
+            long contentLength = headBytes.length + file.getSize() + tailBytes.length;
+
+            HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.fromPublisher(
+                HttpRequest.BodyPublishers.concat(
+                    HttpRequest.BodyPublishers.ofByteArray(headBytes),
+                    HttpRequest.BodyPublishers.ofInputStream(() -> openStream(file)),
+                    HttpRequest.BodyPublishers.ofByteArray(tailBytes)),
+                contentLength);
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrl))
+                .timeout(UPLOAD_TIMEOUT)
+                .header("Authorization", authorization)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(body)
+                .build();
+
+            HttpResponse<String> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Upload para o ImageKit interrompido");
+            }
+            if (response.statusCode() >= 300) {
+                throw new IOException("ImageKit respondeu com status " + response.statusCode() + ": " + response.body());
+            }
+
+            JsonNode json = objectMapper.readTree(response.body());
+            String fileId = json.path("fileId").asText(null);
+            String url = json.path("url").asText(null);
+            if (fileId == null || url == null) {
+                throw new IOException("ImageKit respondeu sem fileId ou url");
+            }
+            return new StoredBlob(fileId, url);
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
+    @Override
+    public void delete(String fileId) throws IOException {
+        try {
+            imageKit.deleteFile(fileId);
+        } catch (Exception e) {
+            throw new IOException("Falha ao remover arquivo do ImageKit: " + e.getMessage(), e);
+        }
+    }
+
+    private void acquireUploadPermit() throws InterruptedIOException {
+        try {
+            if (!uploadPermits.tryAcquire(UPLOAD_PERMIT_WAIT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("Muitos uploads em andamento. Tente novamente em instantes.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Upload para o ImageKit interrompido");
+        }
+    }
+
+    private static String formField(String boundary, String name, String value) {
+        return "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+            + value + "\r\n";
+    }
+
+    private static InputStream openStream(MultipartFile file) {
+        try {
+            return file.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.spotify.services;
+
+import com.spotify.utils.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+public class ImageRenditionService {
+    private static final Logger logger = LoggerFactory.getLogger(ImageRenditionService.class);
+    public static final List<Integer> SIZES = List.of(64, 160, 320, 640);
+    private static final Pattern YOUTUBE_THUMBNAIL = Pattern.compile("^(https?://i\\d?\\.ytimg\\.com/vi/[^/]+/)[^/?]+\\.jpg$");
+    private static final Duration WARM_TIMEOUT = Duration.ofSeconds(20);
+
+    private final String imageKitEndpoint;
+    private final Executor executor;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    public ImageRenditionService(@Value("${imagekit.url-endpoint:}") String imageKitEndpoint,
+                                 @Qualifier("imageRenditionExecutor") Executor executor) {
+        this.imageKitEndpoint = imageKitEndpoint == null ? "" : imageKitEndpoint.trim();
+        this.executor = executor;
+    }
+
+    public Map<String, String> renditionsFor(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return null;
+        }
+
+        Map<String, String> renditions = new LinkedHashMap<>();
+        if (isImageKitUrl(imageUrl)) {
+            String separator = imageUrl.contains("?") ? "&" : "?";
+            for (int size : SIZES) {
+                renditions.put(String.valueOf(size),
+                    imageUrl + separator + "tr=w-" + size + ",h-" + size + ",c-at_max,f-auto,q-80");
+            }
+            return renditions;
+        }
+
+        Matcher youtube = YOUTUBE_THUMBNAIL.matcher(imageUrl);
+        if (youtube.matches()) {
+            String base = youtube.group(1);
+            renditions.put("64", base + "default.jpg");
+            renditions.put("160", base + "mqdefault.jpg");
+            renditions.put("320", base + "mqdefault.jpg");
+            renditions.put("640", base + "hqdefault.jpg");
+            return renditions;
+        }
+
+        for (int size : SIZES) {
+            renditions.put(String.valueOf(size), imageUrl);
+        }
+        return renditions;
+    }
+
+    public void warmAfterCommit(String imageUrl) {
+        if (imageUrl == null || !isImageKitUrl(imageUrl)) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> warm(imageUrl));
+    }
+
+    private void warm(String imageUrl) {
+        Map<String, String> renditions = renditionsFor(imageUrl);
+        try {
+            executor.execute(() -> renditions.values().forEach(this::fetch));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Fila de renditions cheia; variantes de {} serão geradas sob demanda", imageUrl);
+        }
+    }
+
+    private void fetch(String renditionUrl) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(renditionUrl))
+            .timeout(WARM_TIMEOUT)
+            .header("Accept", "image/avif,image/webp,image/*")
+            .GET()
+            .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                logger.warn("Falha ao gerar rendition {}: status {}", renditionUrl, response.statusCode());
+            }
+        } catch (IOException e) {
+            logger.warn("Falha ao gerar rendition {}: {}", renditionUrl, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isImageKitUrl(String imageUrl) {
+        if (!imageKitEndpoint.isEmpty() && imageUrl.startsWith(imageKitEndpoint)) {
+            return true;
+        }
+        try {
+            String host = URI.create(imageUrl).getHost();
+            return host != null && host.endsWith(".imagekit.io");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.spotify.services;
+
+import com.spotify.entities.StoredImage;
+import com.spotify.exceptions.ServiceUnavailableException;
+import com.spotify.repositories.StoredImageRepository;
+import com.spotify.utils.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Service
+public class ImageStorageService {
+    private static final Logger logger = LoggerFactory.getLogger(ImageStorageService.class);
+    private static final String MUSIC_COVERS_FOLDER = "/music-covers";
+    private static final String PLAYLIST_COVERS_FOLDER = "/playlist-covers";
+
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("\\.[A-Za-z0-9]{1,10}");
+    private static final int MAX_STORE_ATTEMPTS = 3;
+
+    private final BlobStorage blobStorage;
+    private final StoredImageRepository storedImageRepository;
+
+    public ImageStorageService(BlobStorage blobStorage, StoredImageRepository storedImageRepository) {
+        this.blobStorage = blobStorage;
+        this.storedImageRepository = storedImageRepository;
+    }
+
+    public Map<String, String> uploadMusicCover(MultipartFile file) throws IOException {
+        validateUpload(file);
+
+        try {
+            Map<String, String> uploadResult = store(file, MUSIC_COVERS_FOLDER);
+            logger.info("Image stored successfully: {}", uploadResult.get("fileId"));
+            return uploadResult;
+        } catch (ServiceUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error uploading image: {}", e.getMessage());
+            throw new RuntimeException("Erro ao fazer upload da imagem: " + e.getMessage(), e);
+        }
+    }
+
+    public Map<String, String> uploadPlaylistCover(MultipartFile file) throws IOException {
+        validateUpload(file);
+
+        try {
+            BlobStorage.StoredBlob blob = storeBlob(file, PLAYLIST_COVERS_FOLDER);
+            Map<String, String> uploadResult = uploadResult(blob.url(), blob.fileId());
+            logger.info("Playlist cover stored successfully: {}", uploadResult.get("fileId"));
+            return uploadResult;
+        } catch (ServiceUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error uploading playlist cover: {}", e.getMessage());
+            throw new RuntimeException("Erro ao fazer upload da imagem da playlist: " + e.getMessage(), e);
+        }
+    }
+
+    public void deleteMusicCover(String fileId) {
+        if (fileId == null || fileId.isEmpty()) {
+            return;
+        }
+
+        if (storedImageRepository.release(fileId) > 0 && storedImageRepository.deleteUnreferenced(fileId) == 0) {
+            logger.info("Image {} still referenced; keeping it in storage", fileId);
+            return;
+        }
+
+        TransactionHooks.afterCommit(() -> deleteBlob(fileId));
+    }
+
+    private void deleteBlob(String fileId) {
+        try {
+            blobStorage.delete(fileId);
+            logger.info("Image deleted successfully from storage: {}", fileId);
+        } catch (Exception e) {
+            logger.error("Error deleting image from storage: {}", e.getMessage());
+        }
+    }
+
+    private void validateUpload(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo de imagem é obrigatório");
+        }
+
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new IllegalArgumentException("O arquivo deve ser uma imagem");
+        }
+    }
+
+    private Map<String, String> store(MultipartFile file, String folder) throws IOException {
+        String contentHash = sha256(file);
+
+        for (int attempt = 0; attempt < MAX_STORE_ATTEMPTS; attempt++) {
+            if (storedImageRepository.acquire(contentHash) > 0) {
+                StoredImage existing = storedImageRepository.findByContentHash(contentHash).orElse(null);
+                if (existing != null) {
+                    logger.info("Reusing stored image {} for identical content", existing.getFileId());
+                    return uploadResult(existing.getUrl(), existing.getFileId());
+                }
+            }
+
+            BlobStorage.StoredBlob blob = storeBlob(file, folder);
+            String fileId = blob.fileId();
+            if (storedImageRepository.insertIfAbsent(contentHash, fileId, blob.url(), LocalDateTime.now()) > 0) {
+                return uploadResult(blob.url(), fileId);
+            }
+
+            logger.info("Identical image stored concurrently; discarding duplicate upload {}", fileId);
+            deleteBlob(fileId);
+        }
+
+        throw new ServiceUnavailableException("Não foi possível armazenar a imagem. Tente novamente em instantes.");
+    }
+
+    private BlobStorage.StoredBlob storeBlob(MultipartFile file, String folder) throws IOException {
+        String fileName = UUID.randomUUID() + getFileExtension(file.getOriginalFilename());
+        return blobStorage.store(file, folder, fileName);
+    }
+
+    private static String sha256(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[8192];
+        try (InputStream input = file.getInputStream()) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Map<String, String> uploadResult(String url, String fileId) {
+        Map<String, String> uploadResult = new HashMap<>();
+        uploadResult.put("url", url);
+        uploadResult.put("fileId", fileId);
+        return uploadResult;
+    }
+
+    private String getFileExtension(String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            return ".jpg";
+        }
+        String extension = fileName.substring(fileName.lastIndexOf("."));
+        return SAFE_EXTENSION.matcher(extension).matches() ? extension : ".jpg";
+    }
+}
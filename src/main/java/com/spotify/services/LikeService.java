@@ -5,6 +5,7 @@ import com.spotify.business.mapper.MusicMapper;
 import com.spotify.entities.Like;
 import com.spotify.entities.Music;
 import com.spotify.entities.User;
+import com.spotify.events.MusicLikeChangedEvent;
 import com.spotify.exceptions.MusicNotFoundException;
 import com.spotify.exceptions.UserNotFoundException;
 import com.spotify.repositories.LikeRepository;
@@ -12,6 +13,7 @@ import com.spotify.repositories.MusicRepository;
 import com.spotify.repositories.UserRepository;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,13 +31,16 @@ public class LikeService {
     private final UserRepository userRepository;
     private final MusicRepository musicRepository;
     private final MusicMapper musicMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public LikeService(LikeRepository likeRepository, UserRepository userRepository,
-                      MusicRepository musicRepository, MusicMapper musicMapper) {
+                      MusicRepository musicRepository, MusicMapper musicMapper,
+                      ApplicationEventPublisher eventPublisher) {
         this.likeRepository = likeRepository;
         this.userRepository = userRepository;
         this.musicRepository = musicRepository;
         this.musicMapper = musicMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -53,7 +58,8 @@ public class LikeService {
 
         logger.debug("Music found: {} by {}", music.getName(), music.getBand());
 
-        if (likeRepository.existsByUserAndMusic(user, music)) {
+        boolean liked = !likeRepository.existsByUserAndMusic(user, music);
+        if (!liked) {
             logger.info("Removing like for music: {} by user: {}", musicId, email);
             likeRepository.deleteByUserAndMusic(user, music);
         } else {
@@ -63,6 +69,8 @@ public class LikeService {
             like.setMusic(music);
             likeRepository.save(like);
         }
+
+        eventPublisher.publishEvent(new MusicLikeChangedEvent(user.getId(), musicId, liked));
     }
 
     public boolean isLiked(String musicId, String email) {
@@ -0,0 +1,100 @@
+package com.spotify.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalBlobStorage implements BlobStorage {
+    private static final Logger logger = LoggerFactory.getLogger(LocalBlobStorage.class);
+    private static final Pattern FILE_ID = Pattern.compile("[a-z0-9-]+/[A-Za-z0-9-]+\\.[A-Za-z0-9]{1,10}");
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+
+    private final Path root;
+    private final String publicUrl;
+
+    public LocalBlobStorage(@Value("${storage.local.root:./storage}") String root,
+                            @Value("${storage.local.public-url:http://localhost:8080/files}") String publicUrl) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o diretório de armazenamento " + this.root, e);
+        }
+        logger.info("Armazenamento local de arquivos em {}", this.root);
+    }
+
+    @Override
+    public StoredBlob store(MultipartFile file, String folder, String fileName) throws IOException {
+        String fileId = stripSlashes(folder) + "/" + fileName;
+        Path target = resolve(fileId);
+        if (target == null) {
+            throw new IllegalArgumentException("Nome de arquivo inválido");
+        }
+
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, ".upload-", ".tmp");
+        try {
+            try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+                out.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        return new StoredBlob(fileId, publicUrl + "/" + fileId);
+    }
+
+    @Override
+    public void delete(String fileId) throws IOException {
+        Path path = resolve(fileId);
+        if (path != null) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    public Path resolve(String fileId) {
+        if (fileId == null || !FILE_ID.matcher(fileId).matches()) {
+            return null;
+        }
+        Path path = root.resolve(fileId).normalize();
+        return path.startsWith(root) ? path : null;
+    }
+
+    private static String stripSlashes(String folder) {
+        int start = 0;
+        int end = folder.length();
+        while (start < end && folder.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && folder.charAt(end - 1) == '/') {
+            end--;
+        }
+        return folder.substring(start, end);
+    }
+}
@@ -0,0 +1,35 @@
+package com.spotify.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class MusicListCache {
+    private static final Logger logger = LoggerFactory.getLogger(MusicListCache.class);
+    private static final List<String> CACHE_NAMES = List.of("musics", "likedMusics");
+
+    private final CacheManager cacheManager;
+
+    public MusicListCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void evictAll() {
+        for (String name : CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null) {
+                continue;
+            }
+            try {
+                cache.clear();
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao limpar cache {}: {}", name, e.getMessage());
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.spotify.business.dto.MusicResponseDTO;
 import com.spotify.business.mapper.MusicMapper;
 import com.spotify.entities.Music;
 import com.spotify.entities.User;
+import com.spotify.events.MusicChangedEvent;
 import com.spotify.exceptions.MusicNotFoundException;
 import com.spotify.exceptions.ForbiddenOperationException;
 import com.spotify.exceptions.UserNotFoundException;
@@ -16,6 +17,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,17 +40,28 @@ public class MusicService {
     private final MusicRepository musicRepository;
     private final MusicMapper musicMapper;
     private final UserRepository userRepository;
-    private final ImageKitStorageService imageKitStorageService;
+    private final ImageStorageService imageStorageService;
     private final YouTubeService youTubeService;
+    private final PlaylistDetailCache playlistDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final YouTubeEnrichmentService youTubeEnrichmentService;
+    private final ImageRenditionService imageRenditionService;
 
     public MusicService(MusicRepository musicRepository, MusicMapper musicMapper,
-                       UserRepository userRepository, ImageKitStorageService imageKitStorageService,
-                       YouTubeService youTubeService) {
+                       UserRepository userRepository, ImageStorageService imageStorageService,
+                       YouTubeService youTubeService, PlaylistDetailCache playlistDetailCache,
+                       ApplicationEventPublisher eventPublisher,
+                       YouTubeEnrichmentService youTubeEnrichmentService,
+                       ImageRenditionService imageRenditionService) {
         this.musicRepository = musicRepository;
         this.musicMapper = musicMapper;
         this.userRepository = userRepository;
-        this.imageKitStorageService = imageKitStorageService;
+        this.imageStorageService = imageStorageService;
         this.youTubeService = youTubeService;
+        this.playlistDetailCache = playlistDetailCache;
+        this.eventPublisher = eventPublisher;
+        this.youTubeEnrichmentService = youTubeEnrichmentService;
+        this.imageRenditionService = imageRenditionService;
     }
 
     @Transactional
@@ -69,9 +82,10 @@ public class MusicService {
             try {
                 ImageValidator.validateMusicCover(image);
 
-                Map<String, String> uploadResult = imageKitStorageService.uploadMusicCover(image);
+                Map<String, String> uploadResult = imageStorageService.uploadMusicCover(image);
                 imageUrl = uploadResult.get("url");
                 imageFileId = uploadResult.get("fileId");
+                imageRenditionService.warmAfterCommit(imageUrl);
                 logger.info("Image uploaded successfully: {}", imageFileId);
             } catch (IOException e) {
                 logger.error("Error uploading image: {}", e.getMessage());
@@ -79,8 +93,6 @@ public class MusicService {
             }
         }
 
-        Map<String, String> youtubeData = youTubeService.searchMusic(request.getName(), request.getBand());
-
         Music music = new Music();
         music.setId(UUID.randomUUID().toString());
         music.setName(request.getName());
@@ -88,17 +100,14 @@ public class MusicService {
         music.setBand(request.getBand());
         music.setImageUrl(imageUrl);
         music.setImageFileId(imageFileId);
-
-        if (youtubeData != null) {
-            music.setYoutubeVideoId(youtubeData.get("videoId"));
-            music.setYoutubeThumbnailUrl(youtubeData.get("thumbnailUrl"));
-        }
-
+        music.setYoutubeStatus(Music.YoutubeStatus.PENDING);
         music.setCreatedBy(user);
         music.setCreatedAt(LocalDateTime.now());
         music.setUpdatedAt(LocalDateTime.now());
 
         Music savedMusic = musicRepository.save(music);
+        eventPublisher.publishEvent(new MusicChangedEvent(savedMusic.getId(), MusicChangedEvent.Type.CREATED));
+        youTubeEnrichmentService.enqueue(savedMusic.getId());
         logger.info("Music added successfully with ID: {}", savedMusic.getId());
         return musicMapper.toResponseDTO(savedMusic, user);
     }
@@ -123,9 +132,11 @@ public class MusicService {
         }
 
         if (music.getImageFileId() != null && !music.getImageFileId().isEmpty()) {
-            imageKitStorageService.deleteMusicCover(music.getImageFileId());
+            imageStorageService.deleteMusicCover(music.getImageFileId());
         }
 
+        playlistDetailCache.evictPlaylistsContaining(List.of(musicId));
+        eventPublisher.publishEvent(new MusicChangedEvent(musicId, MusicChangedEvent.Type.DELETED));
         musicRepository.delete(music);
         logger.info("Music deleted successfully: {}", musicId);
     }
@@ -191,12 +202,12 @@ public class MusicService {
                 // Validar imagem
                 ImageValidator.validateMusicCover(image);
 
-                if (music.getImageFileId() != null && !music.getImageFileId().isEmpty()) {
-                    imageKitStorageService.deleteMusicCover(music.getImageFileId());
-                }
-                Map<String, String> uploadResult = imageKitStorageService.uploadMusicCover(image);
+                String previousFileId = music.getImageFileId();
+                Map<String, String> uploadResult = imageStorageService.uploadMusicCover(image);
                 music.setImageUrl(uploadResult.get("url"));
                 music.setImageFileId(uploadResult.get("fileId"));
+                imageStorageService.deleteMusicCover(previousFileId);
+                imageRenditionService.warmAfterCommit(music.getImageUrl());
                 logger.info("Image updated successfully for music: {}", musicId);
             } catch (IOException e) {
                 logger.error("Error uploading image: {}", e.getMessage());
@@ -204,12 +215,11 @@ public class MusicService {
             }
         }
 
-        if (!music.getName().equals(request.getName()) || !music.getBand().equals(request.getBand())) {
-            Map<String, String> youtubeData = youTubeService.searchMusic(request.getName(), request.getBand());
-            if (youtubeData != null) {
-                music.setYoutubeVideoId(youtubeData.get("videoId"));
-                music.setYoutubeThumbnailUrl(youtubeData.get("thumbnailUrl"));
-            }
+        boolean needsEnrichment = !music.getName().equals(request.getName()) || !music.getBand().equals(request.getBand());
+        if (needsEnrichment) {
+            music.setYoutubeStatus(Music.YoutubeStatus.PENDING);
+            music.setYoutubeAttempts(0);
+            music.setYoutubeNextAttemptAt(null);
         }
 
         music.setName(request.getName());
@@ -218,6 +228,11 @@ public class MusicService {
         music.setUpdatedAt(LocalDateTime.now());
 
         Music updatedMusic = musicRepository.save(music);
+        eventPublisher.publishEvent(new MusicChangedEvent(musicId, MusicChangedEvent.Type.UPDATED));
+        if (needsEnrichment) {
+            youTubeEnrichmentService.enqueue(musicId);
+        }
+        playlistDetailCache.evictPlaylistsContaining(List.of(musicId));
         logger.info("Music updated successfully: {}", musicId);
         return musicMapper.toResponseDTO(updatedMusic, user);
     }
@@ -252,11 +267,13 @@ public class MusicService {
         music.setYoutubeVideoId(youtubeData.get("videoId"));
         music.setYoutubeThumbnailUrl(youtubeData.get("thumbnailUrl"));
         music.setImageUrl(youtubeData.get("thumbnailUrl"));
+        music.setYoutubeStatus(Music.YoutubeStatus.ENRICHED);
         music.setCreatedBy(user);
         music.setCreatedAt(LocalDateTime.now());
         music.setUpdatedAt(LocalDateTime.now());
 
         Music savedMusic = musicRepository.save(music);
+        eventPublisher.publishEvent(new MusicChangedEvent(savedMusic.getId(), MusicChangedEvent.Type.CREATED));
         return musicMapper.toResponseDTO(savedMusic, user);
     }
 
@@ -286,11 +303,13 @@ public class MusicService {
         music.setYoutubeVideoId(videoId);
         music.setYoutubeThumbnailUrl(thumbnailUrl);
         music.setImageUrl(thumbnailUrl);
+        music.setYoutubeStatus(Music.YoutubeStatus.ENRICHED);
         music.setCreatedBy(user);
         music.setCreatedAt(LocalDateTime.now());
         music.setUpdatedAt(LocalDateTime.now());
 
         Music savedMusic = musicRepository.save(music);
+        eventPublisher.publishEvent(new MusicChangedEvent(savedMusic.getId(), MusicChangedEvent.Type.CREATED));
         return musicMapper.toResponseDTO(savedMusic, user);
     }
 }
@@ -0,0 +1,101 @@
+package com.spotify.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spotify.entities.Playlist;
+import com.spotify.repositories.PlaylistCollaboratorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class PlaylistAccessCache {
+    private static final Logger logger = LoggerFactory.getLogger(PlaylistAccessCache.class);
+    public static final String INVALIDATION_CHANNEL = "playlist_access:invalidate";
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(15);
+
+    private final PlaylistCollaboratorRepository collaboratorRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, PlaylistAccess> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+
+    public PlaylistAccessCache(PlaylistCollaboratorRepository collaboratorRepository,
+                               RedisTemplate<String, String> redisTemplate) {
+        this.collaboratorRepository = collaboratorRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    public PlaylistAccess get(Playlist playlist) {
+        Long ownerId = playlist.getUser().getId();
+        return cache.get(playlist.getId(), playlistId -> new PlaylistAccess(
+                ownerId, Set.copyOf(collaboratorRepository.findAcceptedUserIds(playlistId))));
+    }
+
+    public void preload(Collection<Playlist> playlists) {
+        if (playlists.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> ownerIds = new HashMap<>();
+        for (Playlist playlist : playlists) {
+            ownerIds.put(playlist.getId(), playlist.getUser().getId());
+        }
+
+        cache.getAll(ownerIds.keySet(), missing -> {
+            Map<Long, Set<Long>> collaborators = new HashMap<>();
+            for (Long playlistId : missing) {
+                collaborators.put(playlistId, new HashSet<>());
+            }
+            List<Object[]> rows = collaboratorRepository.findAcceptedUserIdsByPlaylistIds(new ArrayList<>(missing));
+            for (Object[] row : rows) {
+                collaborators.get((Long) row[0]).add((Long) row[1]);
+            }
+
+            Map<Long, PlaylistAccess> loaded = new HashMap<>();
+            collaborators.forEach((playlistId, userIds) ->
+                    loaded.put(playlistId, new PlaylistAccess(ownerIds.get(playlistId), Set.copyOf(userIds))));
+            return loaded;
+        });
+    }
+
+    public void invalidate(Long playlistId) {
+        evictLocal(playlistId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(playlistId));
+        } catch (Exception e) {
+            logger.warn("Could not publish playlist access invalidation for {}: {}", playlistId, e.getMessage());
+        }
+    }
+
+    public void evictLocal(Long playlistId) {
+        cache.invalidate(playlistId);
+    }
+
+    public record PlaylistAccess(Long ownerId, Set<Long> collaboratorIds) {
+
+        public boolean isOwner(Long userId) {
+            return ownerId.equals(userId);
+        }
+
+        public boolean isCollaborator(Long userId) {
+            return collaboratorIds.contains(userId);
+        }
+
+        public boolean canEdit(Long userId) {
+            return isOwner(userId) || isCollaborator(userId);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.spotify.services;
+
+import com.spotify.entities.PlaylistChange;
+import com.spotify.repositories.PlaylistChangeRepository;
+import com.spotify.repositories.PlaylistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class PlaylistChangeLog {
+    private static final Logger logger = LoggerFactory.getLogger(PlaylistChangeLog.class);
+    private static final int RETENTION_DAYS = 30;
+
+    private final PlaylistChangeRepository changeRepository;
+    private final PlaylistRepository playlistRepository;
+
+    public PlaylistChangeLog(PlaylistChangeRepository changeRepository, PlaylistRepository playlistRepository) {
+        this.changeRepository = changeRepository;
+        this.playlistRepository = playlistRepository;
+    }
+
+    @Transactional
+    public long record(Long playlistId, Entry entry) {
+        return record(playlistId, List.of(entry));
+    }
+
+    @Transactional
+    public long record(Long playlistId, List<Entry> entries) {
+        playlistRepository.incrementChangeVersion(playlistId);
+        Long version = playlistRepository.findChangeVersion(playlistId);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PlaylistChange> changes = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            PlaylistChange change = new PlaylistChange();
+            change.setPlaylistId(playlistId);
+            change.setVersion(version);
+            change.setType(entry.type());
+            change.setMusicId(entry.musicId());
+            change.setPosition(entry.position());
+            change.setCreatedAt(now);
+            changes.add(change);
+        }
+        changeRepository.saveAll(changes);
+
+        return version;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<List<PlaylistChange>> changesSince(Long playlistId, long since, long currentVersion) {
+        if (since == currentVersion) {
+            return Optional.of(List.of());
+        }
+        if (since > currentVersion || since < 0 || !changeRepository.existsByPlaylistIdAndVersion(playlistId, since + 1)) {
+            return Optional.empty();
+        }
+
+        List<PlaylistChange> changes = changeRepository
+                .findByPlaylistIdAndVersionGreaterThanOrderByVersionAscIdAsc(playlistId, since);
+        boolean positionsReset = changes.stream()
+                .anyMatch(change -> change.getType() == PlaylistChange.ChangeType.POSITIONS_RESET);
+
+        return positionsReset ? Optional.empty() : Optional.of(changes);
+    }
+
+    @Transactional
+    public void forget(Long playlistId) {
+        changeRepository.deleteByPlaylistId(playlistId);
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void compact() {
+        int deleted = changeRepository.deleteOlderThan(LocalDateTime.now().minusDays(RETENTION_DAYS));
+        logger.info("Compacted {} playlist changes older than {} days", deleted, RETENTION_DAYS);
+    }
+
+    public record Entry(PlaylistChange.ChangeType type, String musicId, Integer position) {
+
+        public static Entry added(String musicId, Integer position) {
+            return new Entry(PlaylistChange.ChangeType.MUSIC_ADDED, musicId, position);
+        }
+
+        public static Entry removed(String musicId) {
+            return new Entry(PlaylistChange.ChangeType.MUSIC_REMOVED, musicId, null);
+        }
+
+        public static Entry moved(String musicId, Integer position) {
+            return new Entry(PlaylistChange.ChangeType.MUSIC_MOVED, musicId, position);
+        }
+
+        public static Entry metadataUpdated() {
+            return new Entry(PlaylistChange.ChangeType.METADATA_UPDATED, null, null);
+        }
+
+        public static Entry positionsReset() {
+            return new Entry(PlaylistChange.ChangeType.POSITIONS_RESET, null, null);
+        }
+    }
+}
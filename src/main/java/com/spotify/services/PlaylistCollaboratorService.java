@@ -7,11 +7,15 @@ import com.spotify.entities.User;
 import com.spotify.repositories.PlaylistCollaboratorRepository;
 import com.spotify.repositories.PlaylistRepository;
 import com.spotify.repositories.UserRepository;
+import com.spotify.utils.TransactionHooks;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,13 +24,19 @@ public class PlaylistCollaboratorService {
     private final PlaylistCollaboratorRepository collaboratorRepository;
     private final PlaylistRepository playlistRepository;
     private final UserRepository userRepository;
+    private final PlaylistAccessCache accessCache;
+    private final RealtimeEventService realtimeEventService;
 
     public PlaylistCollaboratorService(PlaylistCollaboratorRepository collaboratorRepository,
                                       PlaylistRepository playlistRepository,
-                                      UserRepository userRepository) {
+                                      UserRepository userRepository,
+                                      PlaylistAccessCache accessCache,
+                                      RealtimeEventService realtimeEventService) {
         this.collaboratorRepository = collaboratorRepository;
         this.playlistRepository = playlistRepository;
         this.userRepository = userRepository;
+        this.accessCache = accessCache;
+        this.realtimeEventService = realtimeEventService;
     }
 
     @Transactional
@@ -61,6 +71,8 @@ public class PlaylistCollaboratorService {
 
         PlaylistCollaborator saved = collaboratorRepository.save(collaborator);
 
+        realtimeEventService.publish(List.of(invitedUser.getId()), "invite.created", convertToInviteDTO(saved));
+
         return convertToDTO(saved);
     }
 
@@ -87,7 +99,14 @@ public class PlaylistCollaboratorService {
 
         PlaylistCollaborator updated = collaboratorRepository.save(collaborator);
 
-        return convertToDTO(updated);
+        Long playlistId = collaborator.getPlaylist().getId();
+        TransactionHooks.afterCommit(() -> accessCache.invalidate(playlistId));
+
+        CollaboratorDTO dto = convertToDTO(updated);
+        realtimeEventService.publish(
+                List.of(updated.getInvitedBy().getId(), user.getId()), "invite.responded", dto);
+
+        return dto;
     }
 
     @Transactional
@@ -110,6 +129,7 @@ public class PlaylistCollaboratorService {
         }
 
         collaboratorRepository.delete(collaborator);
+        TransactionHooks.afterCommit(() -> accessCache.invalidate(playlistId));
     }
 
     @Transactional(readOnly = true)
@@ -146,7 +166,22 @@ public class PlaylistCollaboratorService {
     }
 
     public boolean isUserCollaborator(Playlist playlist, User user) {
-        return collaboratorRepository.isUserCollaborator(playlist, user);
+        return accessCache.get(playlist).isCollaborator(user.getId());
+    }
+
+    public void preloadAccess(Collection<Playlist> playlists) {
+        accessCache.preload(playlists);
+    }
+
+    public Set<Long> getMemberIds(Playlist playlist) {
+        PlaylistAccessCache.PlaylistAccess access = accessCache.get(playlist);
+        Set<Long> memberIds = new HashSet<>(access.collaboratorIds());
+        memberIds.add(access.ownerId());
+        return memberIds;
+    }
+
+    public void evictAccess(Long playlistId) {
+        accessCache.invalidate(playlistId);
     }
 
     private CollaboratorDTO convertToDTO(PlaylistCollaborator collaborator) {
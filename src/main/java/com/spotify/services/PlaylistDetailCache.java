@@ -0,0 +1,108 @@
+package com.spotify.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spotify.business.dto.PlaylistWithMusicsDTO;
+import com.spotify.repositories.PlaylistMusicRepository;
+import com.spotify.utils.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class PlaylistDetailCache {
+    private static final Logger logger = LoggerFactory.getLogger(PlaylistDetailCache.class);
+    public static final String INVALIDATION_CHANNEL = "playlist_detail:invalidate";
+    private static final int MAX_ENTRIES = 1_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+    private final PlaylistMusicRepository playlistMusicRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, Entry> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    public PlaylistDetailCache(PlaylistMusicRepository playlistMusicRepository,
+                               RedisTemplate<String, String> redisTemplate) {
+        this.playlistMusicRepository = playlistMusicRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    public PlaylistWithMusicsDTO get(Long playlistId, LocalDateTime version) {
+        Entry entry = cache.getIfPresent(playlistId);
+        if (entry == null || !entry.version().equals(version)) {
+            return null;
+        }
+        return entry.detail();
+    }
+
+    public void put(Long playlistId, LocalDateTime version, PlaylistWithMusicsDTO detail) {
+        cache.asMap().merge(playlistId, new Entry(version, detail),
+                (current, candidate) -> candidate.version().isBefore(current.version()) ? current : candidate);
+    }
+
+    public void evict(Long playlistId) {
+        cache.invalidate(playlistId);
+    }
+
+    public void evictPlaylistsContaining(Collection<String> musicIds) {
+        if (musicIds.isEmpty()) {
+            return;
+        }
+        List<Long> playlistIds = playlistMusicRepository.findPlaylistIdsContaining(musicIds);
+        if (!playlistIds.isEmpty()) {
+            TransactionHooks.afterCommit(() -> invalidate(playlistIds));
+        }
+    }
+
+    public void invalidate(Collection<Long> playlistIds) {
+        if (playlistIds.size() > MAX_ENTRIES) {
+            invalidateAll();
+            return;
+        }
+        evictLocal(playlistIds);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    playlistIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            logger.warn("Could not publish playlist detail invalidation: {}", e.getMessage());
+        }
+    }
+
+    public void evictLocal(Collection<Long> playlistIds) {
+        cache.invalidateAll(playlistIds);
+    }
+
+    public void onInvalidation(String body) {
+        if ("*".equals(body)) {
+            invalidateAllLocal();
+            return;
+        }
+        evictLocal(Arrays.stream(body.split(",")).map(Long::valueOf).toList());
+    }
+
+    public void invalidateAll() {
+        invalidateAllLocal();
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, "*");
+        } catch (Exception e) {
+            logger.warn("Could not publish playlist detail invalidation: {}", e.getMessage());
+        }
+    }
+
+    public void invalidateAllLocal() {
+        cache.invalidateAll();
+    }
+
+    private record Entry(LocalDateTime version, PlaylistWithMusicsDTO detail) {
+    }
+}
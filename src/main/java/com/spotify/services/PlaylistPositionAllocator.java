@@ -0,0 +1,39 @@
+package com.spotify.services;
+
+import com.spotify.entities.Playlist;
+import com.spotify.repositories.PlaylistRepository;
+import com.spotify.utils.PlaylistPositions;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class PlaylistPositionAllocator {
+
+    private final PlaylistRepository playlistRepository;
+
+    public PlaylistPositionAllocator(PlaylistRepository playlistRepository) {
+        this.playlistRepository = playlistRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Integer allocate(Playlist playlist) {
+        return allocate(playlist, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Integer allocate(Playlist playlist, int count) {
+        long span = (long) PlaylistPositions.GAP * count;
+        playlistRepository.advanceNextPosition(playlist.getId(), span);
+        Long last = playlistRepository.findNextPosition(playlist.getId());
+        if (last == null || last >= Integer.MAX_VALUE) {
+            return null;
+        }
+        return (int) (last - span + PlaylistPositions.GAP);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reset(Long playlistId) {
+        playlistRepository.resetNextPosition(playlistId);
+    }
+}
@@ -0,0 +1,64 @@
+package com.spotify.services;
+
+import com.spotify.repositories.PlaylistMusicRepository;
+import com.spotify.repositories.PlaylistRepository;
+import com.spotify.utils.PlaylistPositions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class PlaylistPositionRebalancer {
+    private static final Logger logger = LoggerFactory.getLogger(PlaylistPositionRebalancer.class);
+
+    private final PlaylistRepository playlistRepository;
+    private final PlaylistMusicRepository playlistMusicRepository;
+    private final PlaylistPositionAllocator positionAllocator;
+    private final PlaylistChangeLog changeLog;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public PlaylistPositionRebalancer(PlaylistRepository playlistRepository,
+                                      PlaylistMusicRepository playlistMusicRepository,
+                                      PlaylistPositionAllocator positionAllocator,
+                                      PlaylistChangeLog changeLog) {
+        this.playlistRepository = playlistRepository;
+        this.playlistMusicRepository = playlistMusicRepository;
+        this.positionAllocator = positionAllocator;
+        this.changeLog = changeLog;
+    }
+
+    public boolean markPending(Long playlistId) {
+        return pending.add(playlistId);
+    }
+
+    public void clearPending(Long playlistId) {
+        pending.remove(playlistId);
+    }
+
+    @Async("playlistMaintenanceExecutor")
+    @Transactional
+    public void rebalanceAsync(Long playlistId) {
+        try {
+            if (playlistRepository.findByIdForUpdate(playlistId).isPresent()) {
+                rebalance(playlistId);
+            }
+        } finally {
+            pending.remove(playlistId);
+        }
+    }
+
+    @Transactional
+    public void rebalance(Long playlistId) {
+        int updated = playlistMusicRepository.renumberPositions(playlistId, PlaylistPositions.GAP);
+        playlistRepository.touch(playlistId, LocalDateTime.now());
+        changeLog.record(playlistId, PlaylistChangeLog.Entry.positionsReset());
+        positionAllocator.reset(playlistId);
+        logger.info("Rebalanced {} positions for playlist {}", updated, playlistId);
+    }
+}
@@ -3,42 +3,87 @@ package com.spotify.services;
 import com.spotify.business.dto.*;
 import com.spotify.entities.Music;
 import com.spotify.entities.Playlist;
+import com.spotify.entities.PlaylistChange;
 import com.spotify.entities.PlaylistMusic;
 import com.spotify.entities.User;
 import com.spotify.exceptions.ForbiddenOperationException;
 import com.spotify.repositories.MusicRepository;
+import com.spotify.repositories.PlaylistMusicBatchRepository;
 import com.spotify.repositories.PlaylistMusicRepository;
 import com.spotify.repositories.PlaylistRepository;
 import com.spotify.repositories.UserRepository;
+import com.spotify.utils.CursorCodec;
+import com.spotify.utils.PlaylistPositions;
+import com.spotify.utils.TransactionHooks;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class PlaylistService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PlaylistRepository playlistRepository;
     private final PlaylistMusicRepository playlistMusicRepository;
+    private final PlaylistMusicBatchRepository playlistMusicBatchRepository;
     private final MusicRepository musicRepository;
     private final UserRepository userRepository;
-    private final ImageKitStorageService imageKitStorageService;
+    private final ImageStorageService imageStorageService;
     private final PlaylistCollaboratorService collaboratorService;
+    private final PublicPlaylistCache publicPlaylistCache;
+    private final PlaylistDetailCache playlistDetailCache;
+    private final PlaylistPositionRebalancer positionRebalancer;
+    private final PlaylistPositionAllocator positionAllocator;
+    private final RealtimeEventService realtimeEventService;
+    private final PlaylistChangeLog changeLog;
+    private final ImageRenditionService imageRenditionService;
 
     public PlaylistService(PlaylistRepository playlistRepository,
                           PlaylistMusicRepository playlistMusicRepository,
+                          PlaylistMusicBatchRepository playlistMusicBatchRepository,
                           MusicRepository musicRepository,
                           UserRepository userRepository,
-                          ImageKitStorageService imageKitStorageService,
-                          PlaylistCollaboratorService collaboratorService) {
+                          ImageStorageService imageStorageService,
+                          PlaylistCollaboratorService collaboratorService,
+                          PublicPlaylistCache publicPlaylistCache,
+                          PlaylistDetailCache playlistDetailCache,
+                          PlaylistPositionRebalancer positionRebalancer,
+                          PlaylistPositionAllocator positionAllocator,
+                          RealtimeEventService realtimeEventService,
+                          PlaylistChangeLog changeLog,
+                          ImageRenditionService imageRenditionService) {
         this.playlistRepository = playlistRepository;
         this.playlistMusicRepository = playlistMusicRepository;
+        this.playlistMusicBatchRepository = playlistMusicBatchRepository;
         this.musicRepository = musicRepository;
         this.userRepository = userRepository;
-        this.imageKitStorageService = imageKitStorageService;
+        this.imageStorageService = imageStorageService;
         this.collaboratorService = collaboratorService;
+        this.publicPlaylistCache = publicPlaylistCache;
+        this.playlistDetailCache = playlistDetailCache;
+        this.positionRebalancer = positionRebalancer;
+        this.positionAllocator = positionAllocator;
+        this.realtimeEventService = realtimeEventService;
+        this.changeLog = changeLog;
+        this.imageRenditionService = imageRenditionService;
     }
 
     @Transactional
@@ -56,10 +101,46 @@ public class PlaylistService {
         playlist.setUpdatedAt(LocalDateTime.now());
 
         Playlist savedPlaylist = playlistRepository.save(playlist);
+        syncPublicCache(savedPlaylist);
 
         return convertToDTO(savedPlaylist);
     }
 
+    @Transactional
+    public PlaylistDTO forkPlaylist(Long playlistId, ForkPlaylistRequest request, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        Playlist source = playlistRepository.findByIdWithOwner(playlistId)
+                .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+
+        checkViewAccess(source, user);
+
+        String name = request != null && request.getName() != null && !request.getName().isBlank()
+                ? request.getName()
+                : source.getName();
+        boolean isPublic = request != null && Boolean.TRUE.equals(request.getIsPublic());
+
+        LocalDateTime now = LocalDateTime.now();
+        Playlist fork = new Playlist();
+        fork.setName(name);
+        fork.setImageUrl(source.getImageUrl());
+        fork.setIsPublic(isPublic);
+        fork.setUser(user);
+        fork.setCreatedAt(now);
+        fork.setUpdatedAt(now);
+
+        Playlist savedFork = playlistRepository.save(fork);
+        int copied = playlistMusicRepository.copyPlaylistMusics(source.getId(), savedFork.getId(), now);
+
+        PlaylistDTO dto = convertToDTO(savedFork, copied, false);
+        if (isPublic) {
+            TransactionHooks.afterCommit(() -> publicPlaylistCache.upsert(dto));
+        }
+
+        return dto;
+    }
+
     @Transactional
     public PlaylistDTO updatePlaylist(Long playlistId, UpdatePlaylistRequest request, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
@@ -87,6 +168,8 @@ public class PlaylistService {
         playlist.setUpdatedAt(LocalDateTime.now());
 
         Playlist updatedPlaylist = playlistRepository.save(playlist);
+        changeLog.record(playlistId, PlaylistChangeLog.Entry.metadataUpdated());
+        syncPublicCache(updatedPlaylist);
 
         return convertToDTO(updatedPlaylist);
     }
@@ -104,6 +187,12 @@ public class PlaylistService {
         }
 
         playlistRepository.delete(playlist);
+        changeLog.forget(playlistId);
+        TransactionHooks.afterCommit(() -> {
+            publicPlaylistCache.remove(playlistId);
+            playlistDetailCache.evict(playlistId);
+            collaboratorService.evictAccess(playlistId);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -112,6 +201,7 @@ public class PlaylistService {
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
         List<Playlist> playlists = playlistRepository.findMyPlaylistsAndCollaborations(user.getId());
+        collaboratorService.preloadAccess(playlists);
 
         return playlists.stream()
                 .map(playlist -> convertToDTO(playlist, user))
@@ -133,28 +223,160 @@ public class PlaylistService {
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
         List<Playlist> playlists = playlistRepository.findAllAccessiblePlaylistsIncludingCollaborations(user.getId());
+        collaboratorService.preloadAccess(playlists);
 
         return playlists.stream()
                 .map(playlist -> convertToDTO(playlist, user))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PlaylistDTO> getPublicPlaylistsPage(String cursor, int limit) {
+        return publicPlaylistCache.page(cursor, resolvePageSize(limit), this::loadPublicPlaylists);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PlaylistDTO> getAccessiblePlaylistsPage(String userEmail, String cursor, int limit) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        int pageSize = resolvePageSize(limit);
+        CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<Playlist> playlists = decoded == null
+                ? playlistRepository.findAccessiblePlaylistsFirstPage(user.getId(), pageable)
+                : playlistRepository.findAccessiblePlaylistsAfter(user.getId(), decoded.createdAt(), decoded.id(), pageable);
+
+        boolean hasMore = playlists.size() > pageSize;
+        if (hasMore) {
+            playlists = playlists.subList(0, pageSize);
+        }
+
+        List<Long> playlistIds = playlists.stream().map(Playlist::getId).collect(Collectors.toList());
+        Map<Long, Long> musicCounts = playlistIds.isEmpty()
+                ? Map.of()
+                : toCountMap(playlistMusicRepository.countByPlaylistIds(playlistIds));
+        collaboratorService.preloadAccess(playlists);
+
+        List<PlaylistDTO> items = playlists.stream()
+                .map(playlist -> convertToDTO(
+                        playlist,
+                        musicCounts.getOrDefault(playlist.getId(), 0L).intValue(),
+                        collaboratorService.isUserCollaborator(playlist, user)))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasMore) {
+            Playlist last = playlists.get(playlists.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
+    }
+
     @Transactional(readOnly = true)
     public PlaylistWithMusicsDTO getPlaylistById(Long playlistId, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
-        Playlist playlist = playlistRepository.findById(playlistId)
+        Playlist playlist = playlistRepository.findByIdWithOwner(playlistId)
                 .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
 
-        boolean isOwner = playlist.getUser().getId().equals(user.getId());
-        boolean isCollaborator = collaboratorService.isUserCollaborator(playlist, user);
+        boolean isCollaborator = checkViewAccess(playlist, user);
 
-        if (!playlist.getIsPublic() && !isOwner && !isCollaborator) {
-            throw new RuntimeException("Você não tem permissão para visualizar esta playlist");
+        return loadPlaylistDetail(playlist, isCollaborator);
+    }
+
+    @Transactional(readOnly = true)
+    public PlaylistDTO getPlaylistHeader(Long playlistId, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        Playlist playlist = playlistRepository.findByIdWithOwner(playlistId)
+                .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+
+        boolean isCollaborator = checkViewAccess(playlist, user);
+        int musicCount = (int) playlistMusicRepository.countByPlaylist(playlist);
+
+        return convertToDTO(playlist, musicCount, isCollaborator);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MusicInPlaylistDTO> getPlaylistMusicsPage(Long playlistId, String cursor, int limit, String userEmail) {
+        assertCanView(playlistId, userEmail);
+
+        int pageSize = resolvePageSize(limit);
+        Integer after = decodePositionCursor(cursor);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<MusicInPlaylistDTO> tracks = after == null
+                ? playlistMusicRepository.findTracksFirstPage(playlistId, pageable)
+                : playlistMusicRepository.findTracksAfter(playlistId, after, pageable);
+
+        boolean hasMore = tracks.size() > pageSize;
+        if (hasMore) {
+            tracks = tracks.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore
+                ? String.valueOf(tracks.get(tracks.size() - 1).getPosition())
+                : null;
+
+        return new CursorPageDTO<>(List.copyOf(tracks), nextCursor, hasMore);
+    }
+
+    @Transactional(readOnly = true)
+    public void assertCanView(Long playlistId, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        Playlist playlist = playlistRepository.findByIdWithOwner(playlistId)
+                .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+
+        checkViewAccess(playlist, user);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamPlaylistMusics(Long playlistId, Consumer<MusicInPlaylistDTO> consumer) {
+        try (Stream<MusicInPlaylistDTO> tracks = playlistMusicRepository.streamTracks(playlistId)) {
+            tracks.forEach(consumer);
         }
+    }
 
-        return convertToWithMusicsDTO(playlist, user);
+    @Transactional(readOnly = true)
+    public PlaylistChangesDTO getPlaylistChanges(Long playlistId, long since, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        Playlist playlist = playlistRepository.findByIdWithOwner(playlistId)
+                .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+
+        boolean isCollaborator = checkViewAccess(playlist, user);
+        long currentVersion = playlist.getChangeVersion() == null ? 0 : playlist.getChangeVersion();
+
+        PlaylistChangesDTO dto = new PlaylistChangesDTO();
+        dto.setPlaylistId(playlistId);
+
+        Optional<List<PlaylistChange>> changes = changeLog.changesSince(playlistId, since, currentVersion);
+        if (changes.isPresent()) {
+            List<PlaylistChangeDTO> changeDTOs = changes.get().stream()
+                    .map(this::convertToChangeDTO)
+                    .collect(Collectors.toList());
+            long version = changeDTOs.isEmpty()
+                    ? currentVersion
+                    : Math.max(currentVersion, changeDTOs.get(changeDTOs.size() - 1).getVersion());
+            dto.setVersion(version);
+            dto.setSnapshot(false);
+            dto.setChanges(changeDTOs);
+        } else {
+            PlaylistWithMusicsDTO snapshot = loadPlaylistDetail(playlist, isCollaborator);
+            dto.setVersion(snapshot.getVersion());
+            dto.setSnapshot(true);
+            dto.setPlaylist(snapshot);
+        }
+
+        return dto;
     }
 
     @Transactional
@@ -172,6 +394,8 @@ public class PlaylistService {
             throw new RuntimeException("Você não tem permissão para adicionar músicas nesta playlist");
         }
 
+        assertNotSmart(playlist);
+
         Music music = musicRepository.findById(request.getMusicId())
                 .orElseThrow(() -> new RuntimeException("Música não encontrada"));
 
@@ -179,19 +403,136 @@ public class PlaylistService {
             throw new RuntimeException("Esta música já está na playlist");
         }
 
-        Integer maxPosition = playlistMusicRepository.findMaxPositionByPlaylist(playlist)
-                .orElse(-1);
+        Integer position = positionAllocator.allocate(playlist);
+        if (position == null) {
+            positionRebalancer.rebalance(playlistId);
+            playlist = playlistRepository.findById(playlistId)
+                    .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+            position = positionAllocator.allocate(playlist);
+        }
 
         PlaylistMusic playlistMusic = new PlaylistMusic();
         playlistMusic.setPlaylist(playlist);
         playlistMusic.setMusic(music);
-        playlistMusic.setPosition(maxPosition + 1);
+        playlistMusic.setPosition(position);
         playlistMusic.setCreatedAt(LocalDateTime.now());
 
         playlistMusicRepository.save(playlistMusic);
 
         playlist.setUpdatedAt(LocalDateTime.now());
         playlistRepository.save(playlist);
+        changeLog.record(playlistId, PlaylistChangeLog.Entry.added(music.getId(), position));
+        syncPublicCache(playlist);
+        publishTracksEvent(playlist, "playlist.musics.added", List.of(music.getId()));
+    }
+
+    @Transactional
+    public BulkPlaylistMusicsResultDTO addMusicsToPlaylist(Long playlistId, BulkPlaylistMusicsRequest request, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        Playlist playlist = playlistRepository.findById(playlistId)
+                .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+
+        boolean isOwner = playlist.getUser().getId().equals(user.getId());
+        boolean isCollaborator = collaboratorService.isUserCollaborator(playlist, user);
+
+        if (!isOwner && !isCollaborator) {
+            throw new RuntimeException("Você não tem permissão para adicionar músicas nesta playlist");
+        }
+
+        assertNotSmart(playlist);
+
+        Set<String> musicIds = new LinkedHashSet<>(request.getMusicIds());
+        Set<String> existingMusics = new HashSet<>();
+        musicRepository.findAllById(musicIds).forEach(music -> existingMusics.add(music.getId()));
+        Set<String> alreadyInPlaylist = new HashSet<>(
+                playlistMusicRepository.findMusicIdsInPlaylist(playlist, musicIds));
+
+        List<BulkPlaylistMusicsResultDTO.Item> results = new ArrayList<>(musicIds.size());
+        List<String> toInsert = new ArrayList<>();
+        for (String musicId : musicIds) {
+            BulkPlaylistMusicsResultDTO.Status status;
+            if (!existingMusics.contains(musicId)) {
+                status = BulkPlaylistMusicsResultDTO.Status.MUSIC_NOT_FOUND;
+            } else if (alreadyInPlaylist.contains(musicId)) {
+                status = BulkPlaylistMusicsResultDTO.Status.ALREADY_IN_PLAYLIST;
+            } else {
+                status = BulkPlaylistMusicsResultDTO.Status.ADDED;
+                toInsert.add(musicId);
+            }
+            results.add(new BulkPlaylistMusicsResultDTO.Item(musicId, status));
+        }
+
+        if (!toInsert.isEmpty()) {
+            Integer firstPosition = positionAllocator.allocate(playlist, toInsert.size());
+            if (firstPosition == null) {
+                positionRebalancer.rebalance(playlistId);
+                playlist = playlistRepository.findById(playlistId)
+                        .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+                firstPosition = positionAllocator.allocate(playlist, toInsert.size());
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            playlistMusicBatchRepository.insertAll(playlistId, toInsert, firstPosition, PlaylistPositions.GAP, now);
+
+            List<PlaylistChangeLog.Entry> changes = new ArrayList<>(toInsert.size());
+            for (int i = 0; i < toInsert.size(); i++) {
+                changes.add(PlaylistChangeLog.Entry.added(toInsert.get(i), firstPosition + i * PlaylistPositions.GAP));
+            }
+
+            playlist.setUpdatedAt(now);
+            playlistRepository.save(playlist);
+            changeLog.record(playlistId, changes);
+            syncPublicCache(playlist);
+            publishTracksEvent(playlist, "playlist.musics.added", toInsert);
+        }
+
+        return new BulkPlaylistMusicsResultDTO(toInsert.size(), results.size() - toInsert.size(), results);
+    }
+
+    @Transactional
+    public BulkPlaylistMusicsResultDTO removeMusicsFromPlaylist(Long playlistId, BulkPlaylistMusicsRequest request, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        Playlist playlist = playlistRepository.findById(playlistId)
+                .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+
+        boolean isOwner = playlist.getUser().getId().equals(user.getId());
+        boolean isCollaborator = collaboratorService.isUserCollaborator(playlist, user);
+
+        if (!isOwner && !isCollaborator) {
+            throw new RuntimeException("Você não tem permissão para remover músicas desta playlist");
+        }
+
+        assertNotSmart(playlist);
+
+        Set<String> musicIds = new LinkedHashSet<>(request.getMusicIds());
+        Set<String> inPlaylist = new HashSet<>(playlistMusicRepository.findMusicIdsInPlaylist(playlist, musicIds));
+
+        List<BulkPlaylistMusicsResultDTO.Item> results = new ArrayList<>(musicIds.size());
+        for (String musicId : musicIds) {
+            results.add(new BulkPlaylistMusicsResultDTO.Item(musicId, inPlaylist.contains(musicId)
+                    ? BulkPlaylistMusicsResultDTO.Status.REMOVED
+                    : BulkPlaylistMusicsResultDTO.Status.NOT_IN_PLAYLIST));
+        }
+
+        if (!inPlaylist.isEmpty()) {
+            playlistMusicRepository.deleteByPlaylistAndMusicIds(playlist, inPlaylist);
+
+            playlist = playlistRepository.findById(playlistId)
+                    .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+            playlist.setUpdatedAt(LocalDateTime.now());
+            playlistRepository.save(playlist);
+            changeLog.record(playlistId, inPlaylist.stream()
+                    .map(PlaylistChangeLog.Entry::removed)
+                    .collect(Collectors.toList()));
+            syncPublicCache(playlist);
+            publishTracksEvent(playlist, "playlist.musics.removed", inPlaylist);
+        }
+
+        return new BulkPlaylistMusicsResultDTO(inPlaylist.size(), results.size() - inPlaylist.size(), results);
     }
 
     @Transactional
@@ -209,10 +550,79 @@ public class PlaylistService {
             throw new RuntimeException("Você não tem permissão para remover músicas desta playlist");
         }
 
+        assertNotSmart(playlist);
+
         playlistMusicRepository.deleteByPlaylistAndMusicId(playlist, musicId);
 
         playlist.setUpdatedAt(LocalDateTime.now());
         playlistRepository.save(playlist);
+        changeLog.record(playlistId, PlaylistChangeLog.Entry.removed(musicId));
+        syncPublicCache(playlist);
+        publishTracksEvent(playlist, "playlist.musics.removed", List.of(musicId));
+    }
+
+    @Transactional
+    public void moveMusicInPlaylist(Long playlistId, String musicId, MoveMusicRequest request, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
+                .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+
+        boolean isOwner = playlist.getUser().getId().equals(user.getId());
+        boolean isCollaborator = collaboratorService.isUserCollaborator(playlist, user);
+
+        if (!isOwner && !isCollaborator) {
+            throw new RuntimeException("Você não tem permissão para reordenar músicas nesta playlist");
+        }
+
+        String afterMusicId = request.getAfterMusicId();
+        if (musicId.equals(afterMusicId)) {
+            throw new IllegalArgumentException("Uma música não pode ser posicionada após ela mesma");
+        }
+
+        PlaylistMusic moving = findPlaylistMusic(playlist, musicId);
+        Integer lower = afterMusicId == null ? null : findPlaylistMusic(playlist, afterMusicId).getPosition();
+        Integer upper = findUpperNeighbour(playlist, lower, moving.getId());
+        Integer position = upper == null
+                ? positionAllocator.allocate(playlist)
+                : PlaylistPositions.between(lower, upper);
+
+        if (position == null) {
+            positionRebalancer.rebalance(playlistId);
+            playlist = playlistRepository.findById(playlistId)
+                    .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+            moving = findPlaylistMusic(playlist, musicId);
+            lower = afterMusicId == null ? null : findPlaylistMusic(playlist, afterMusicId).getPosition();
+            upper = findUpperNeighbour(playlist, lower, moving.getId());
+            position = upper == null
+                    ? positionAllocator.allocate(playlist)
+                    : PlaylistPositions.between(lower, upper);
+        }
+
+        moving.setPosition(position);
+        playlistMusicRepository.save(moving);
+
+        playlist.setUpdatedAt(LocalDateTime.now());
+        playlistRepository.save(playlist);
+        changeLog.record(playlistId, PlaylistChangeLog.Entry.moved(musicId, position));
+        syncPublicCache(playlist);
+        publishTracksEvent(playlist, "playlist.musics.moved", List.of(musicId));
+
+        if (PlaylistPositions.isCrowded(lower, position, upper)) {
+            TransactionHooks.afterCommit(() -> scheduleRebalance(playlistId));
+        }
+    }
+
+    private void scheduleRebalance(Long playlistId) {
+        if (!positionRebalancer.markPending(playlistId)) {
+            return;
+        }
+        try {
+            positionRebalancer.rebalanceAsync(playlistId);
+        } catch (RejectedExecutionException e) {
+            positionRebalancer.clearPending(playlistId);
+        }
     }
 
     @Transactional
@@ -228,69 +638,199 @@ public class PlaylistService {
         }
 
         try {
-            java.util.Map<String, String> uploadResult = imageKitStorageService.uploadPlaylistCover(image);
+            java.util.Map<String, String> uploadResult = imageStorageService.uploadPlaylistCover(image);
 
             playlist.setImageUrl(uploadResult.get("url"));
             playlist.setImageFileId(uploadResult.get("fileId"));
             playlist.setUpdatedAt(LocalDateTime.now());
+            imageRenditionService.warmAfterCommit(playlist.getImageUrl());
 
             Playlist updatedPlaylist = playlistRepository.save(playlist);
+            changeLog.record(playlistId, PlaylistChangeLog.Entry.metadataUpdated());
+            syncPublicCache(updatedPlaylist);
             return convertToDTO(updatedPlaylist);
         } catch (Exception e) {
             throw new RuntimeException("Erro ao fazer upload da imagem: " + e.getMessage());
         }
     }
 
+    private void assertNotSmart(Playlist playlist) {
+        if (Boolean.TRUE.equals(playlist.getSmart())) {
+            throw new ForbiddenOperationException("As músicas de uma playlist inteligente são definidas pelas suas regras");
+        }
+    }
+
+    private boolean checkViewAccess(Playlist playlist, User user) {
+        boolean isOwner = playlist.getUser().getId().equals(user.getId());
+        boolean isCollaborator = !isOwner && collaboratorService.isUserCollaborator(playlist, user);
+
+        if (!playlist.getIsPublic() && !isOwner && !isCollaborator) {
+            throw new RuntimeException("Você não tem permissão para visualizar esta playlist");
+        }
+
+        return isCollaborator;
+    }
+
+    private PlaylistWithMusicsDTO loadPlaylistDetail(Playlist playlist, boolean isCollaborator) {
+        PlaylistWithMusicsDTO detail = playlistDetailCache.get(playlist.getId(), playlist.getUpdatedAt());
+        if (detail == null) {
+            detail = convertToWithMusicsDTO(playlist);
+            playlistDetailCache.put(playlist.getId(), playlist.getUpdatedAt(), detail);
+        }
+
+        return withCollaboratorFlag(detail, isCollaborator);
+    }
+
+    private PlaylistChangeDTO convertToChangeDTO(PlaylistChange change) {
+        PlaylistChangeDTO dto = new PlaylistChangeDTO();
+        dto.setVersion(change.getVersion());
+        dto.setType(change.getType().name());
+        dto.setMusicId(change.getMusicId());
+        dto.setPosition(change.getPosition());
+        dto.setChangedAt(change.getCreatedAt());
+        return dto;
+    }
+
+    private PlaylistMusic findPlaylistMusic(Playlist playlist, String musicId) {
+        return playlistMusicRepository.findByPlaylistAndMusicId(playlist, musicId)
+                .orElseThrow(() -> new RuntimeException("Música não encontrada nesta playlist"));
+    }
+
+    private Integer findUpperNeighbour(Playlist playlist, Integer lower, Long excludedId) {
+        if (lower == null) {
+            return playlistMusicRepository.findFirstPositionExcluding(playlist, excludedId).orElse(null);
+        }
+        return playlistMusicRepository.findNextPositionExcluding(playlist, lower, excludedId).orElse(null);
+    }
+
+    private void publishTracksEvent(Playlist playlist, String type, Collection<String> musicIds) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("playlistId", playlist.getId());
+        payload.put("musicIds", List.copyOf(musicIds));
+        realtimeEventService.publish(collaboratorService.getMemberIds(playlist), type, payload);
+    }
+
+    private Collection<PlaylistDTO> loadPublicPlaylists() {
+        Map<Long, Long> musicCounts = toCountMap(playlistMusicRepository.countByPublicPlaylists());
+
+        return playlistRepository.findAllPublicPlaylistsWithOwner().stream()
+                .map(playlist -> convertToDTO(
+                        playlist,
+                        musicCounts.getOrDefault(playlist.getId(), 0L).intValue(),
+                        false))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public void syncPublicCache(Long playlistId) {
+        playlistRepository.findByIdWithOwner(playlistId).ifPresent(this::syncPublicCache);
+    }
+
+    private void syncPublicCache(Playlist playlist) {
+        Long playlistId = playlist.getId();
+
+        if (!Boolean.TRUE.equals(playlist.getIsPublic())) {
+            TransactionHooks.afterCommit(() -> publicPlaylistCache.remove(playlistId));
+            return;
+        }
+
+        int musicCount = (int) playlistMusicRepository.countByPlaylist(playlist);
+        PlaylistDTO dto = convertToDTO(playlist, musicCount, false);
+        TransactionHooks.afterCommit(() -> publicPlaylistCache.upsert(dto));
+    }
+
+    private Integer decodePositionCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    private int resolvePageSize(int limit) {
+        if (limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     private PlaylistDTO convertToDTO(Playlist playlist) {
         return convertToDTO(playlist, null);
     }
 
     private PlaylistDTO convertToDTO(Playlist playlist, User currentUser) {
+        boolean isCollaborator = currentUser != null
+                && collaboratorService.isUserCollaborator(playlist, currentUser);
+
+        return convertToDTO(playlist, playlist.getPlaylistMusics().size(), isCollaborator);
+    }
+
+    private PlaylistDTO convertToDTO(Playlist playlist, int musicCount, boolean isCollaborator) {
         PlaylistDTO dto = new PlaylistDTO();
         dto.setId(playlist.getId());
         dto.setName(playlist.getName());
         dto.setImageUrl(playlist.getImageUrl());
+        dto.setImageUrls(imageRenditionService.renditionsFor(playlist.getImageUrl()));
         dto.setImageFileId(playlist.getImageFileId());
         dto.setIsPublic(playlist.getIsPublic());
         dto.setUserId(playlist.getUser().getId());
         dto.setUserName(playlist.getUser().getName());
-        dto.setMusicCount(playlist.getPlaylistMusics().size());
+        dto.setMusicCount(musicCount);
         dto.setCreatedAt(playlist.getCreatedAt());
         dto.setUpdatedAt(playlist.getUpdatedAt());
-
-        if (currentUser != null) {
-            dto.setIsCollaborator(collaboratorService.isUserCollaborator(playlist, currentUser));
-        } else {
-            dto.setIsCollaborator(false);
-        }
-
+        dto.setIsCollaborator(isCollaborator);
+        dto.setIsSmart(Boolean.TRUE.equals(playlist.getSmart()));
         return dto;
     }
 
-    private PlaylistWithMusicsDTO convertToWithMusicsDTO(Playlist playlist) {
-        return convertToWithMusicsDTO(playlist, null);
+    private PlaylistWithMusicsDTO withCollaboratorFlag(PlaylistWithMusicsDTO detail, boolean isCollaborator) {
+        PlaylistWithMusicsDTO dto = new PlaylistWithMusicsDTO();
+        dto.setId(detail.getId());
+        dto.setName(detail.getName());
+        dto.setImageUrl(detail.getImageUrl());
+        dto.setImageUrls(detail.getImageUrls());
+        dto.setImageFileId(detail.getImageFileId());
+        dto.setIsPublic(detail.getIsPublic());
+        dto.setUserId(detail.getUserId());
+        dto.setUserName(detail.getUserName());
+        dto.setCreatedAt(detail.getCreatedAt());
+        dto.setUpdatedAt(detail.getUpdatedAt());
+        dto.setMusics(detail.getMusics());
+        dto.setVersion(detail.getVersion());
+        dto.setIsSmart(detail.getIsSmart());
+        dto.setIsCollaborator(isCollaborator);
+        return dto;
     }
 
-    private PlaylistWithMusicsDTO convertToWithMusicsDTO(Playlist playlist, User currentUser) {
+    private PlaylistWithMusicsDTO convertToWithMusicsDTO(Playlist playlist) {
         PlaylistWithMusicsDTO dto = new PlaylistWithMusicsDTO();
         dto.setId(playlist.getId());
         dto.setName(playlist.getName());
         dto.setImageUrl(playlist.getImageUrl());
+        dto.setImageUrls(imageRenditionService.renditionsFor(playlist.getImageUrl()));
         dto.setImageFileId(playlist.getImageFileId());
         dto.setIsPublic(playlist.getIsPublic());
         dto.setUserId(playlist.getUser().getId());
         dto.setUserName(playlist.getUser().getName());
         dto.setCreatedAt(playlist.getCreatedAt());
         dto.setUpdatedAt(playlist.getUpdatedAt());
-
-        if (currentUser != null) {
-            dto.setIsCollaborator(collaboratorService.isUserCollaborator(playlist, currentUser));
-        } else {
-            dto.setIsCollaborator(false);
-        }
+        dto.setVersion(playlist.getChangeVersion() == null ? 0L : playlist.getChangeVersion());
+        dto.setIsSmart(Boolean.TRUE.equals(playlist.getSmart()));
+        dto.setIsCollaborator(false);
 
         List<PlaylistMusic> playlistMusics = playlistMusicRepository
-                .findByPlaylistOrderByPositionAsc(playlist);
+                .findWithMusicByPlaylistId(playlist.getId());
 
         List<MusicInPlaylistDTO> musics = playlistMusics.stream()
                 .map(pm -> {
@@ -309,7 +849,7 @@ public class PlaylistService {
                 })
                 .collect(Collectors.toList());
 
-        dto.setMusics(musics);
+        dto.setMusics(List.copyOf(musics));
         return dto;
     }
 }
@@ -0,0 +1,217 @@
+package com.spotify.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotify.business.dto.CursorPageDTO;
+import com.spotify.business.dto.PlaylistDTO;
+import com.spotify.utils.CursorCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class PublicPlaylistCache {
+    private static final Logger logger = LoggerFactory.getLogger(PublicPlaylistCache.class);
+    public static final String INVALIDATION_CHANNEL = "public_playlists:invalidate";
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(10);
+
+    private static final Comparator<Key> ORDER = Comparator
+            .comparing(Key::createdAt, Comparator.reverseOrder())
+            .thenComparing(Key::id, Comparator.reverseOrder());
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NavigableMap<Key, PlaylistDTO> entries = new ConcurrentSkipListMap<>(ORDER);
+    private final Map<Long, Key> keysById = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded = false;
+    private volatile Instant loadedAt = Instant.EPOCH;
+
+    public PublicPlaylistCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public CursorPageDTO<PlaylistDTO> page(String cursor, int limit, Supplier<Collection<PlaylistDTO>> loader) {
+        ensureLoaded(loader);
+
+        CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+        NavigableMap<Key, PlaylistDTO> view = decoded == null
+                ? entries
+                : entries.tailMap(new Key(decoded.createdAt(), decoded.id()), false);
+
+        List<PlaylistDTO> items = new ArrayList<>(limit);
+        boolean hasMore = false;
+        for (PlaylistDTO dto : view.values()) {
+            if (items.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            items.add(dto);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            PlaylistDTO last = items.get(items.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
+    }
+
+    public void upsert(PlaylistDTO dto) {
+        upsertLocal(dto);
+        publish(new Message(Message.Type.UPSERT, dto.getId(), dto));
+    }
+
+    public void remove(Long playlistId) {
+        removeLocal(playlistId);
+        publish(new Message(Message.Type.REMOVE, playlistId, null));
+    }
+
+    public void invalidate() {
+        invalidateLocal();
+        publish(new Message(Message.Type.INVALIDATE, null, null));
+    }
+
+    public void onInvalidation(String body) {
+        Message message;
+        try {
+            message = objectMapper.readValue(body, Message.class);
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring malformed public playlist invalidation: {}", e.getMessage());
+            return;
+        }
+        switch (message.type()) {
+            case UPSERT -> upsertLocal(message.playlist());
+            case REMOVE -> removeLocal(message.playlistId());
+            case INVALIDATE -> invalidateLocal();
+        }
+    }
+
+    private void upsertLocal(PlaylistDTO dto) {
+        loadLock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Key key = new Key(dto.getCreatedAt(), dto.getId());
+            Key previous = keysById.get(dto.getId());
+            if (previous != null && isNewer(entries.get(previous), dto)) {
+                return;
+            }
+            keysById.put(dto.getId(), key);
+            if (previous != null && !previous.equals(key)) {
+                entries.remove(previous);
+            }
+            entries.put(key, dto);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void removeLocal(Long playlistId) {
+        loadLock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Key key = keysById.remove(playlistId);
+            if (key != null) {
+                entries.remove(key);
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void invalidateLocal() {
+        loadLock.lock();
+        try {
+            loaded = false;
+            entries.clear();
+            keysById.clear();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void ensureLoaded(Supplier<Collection<PlaylistDTO>> loader) {
+        if (loaded && !isStale()) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (loaded && !isStale()) {
+                return;
+            }
+            Collection<PlaylistDTO> playlists = loader.get();
+            Set<Long> loadedIds = new HashSet<>();
+            for (PlaylistDTO dto : playlists) {
+                Key key = new Key(dto.getCreatedAt(), dto.getId());
+                Key previous = keysById.put(dto.getId(), key);
+                if (previous != null && !previous.equals(key)) {
+                    entries.remove(previous);
+                }
+                entries.put(key, dto);
+                loadedIds.add(dto.getId());
+            }
+            keysById.entrySet().removeIf(entry -> {
+                if (loadedIds.contains(entry.getKey())) {
+                    return false;
+                }
+                entries.remove(entry.getValue());
+                return true;
+            });
+            loaded = true;
+            loadedAt = Instant.now();
+            logger.info("Public playlist cache loaded with {} playlists", playlists.size());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private boolean isStale() {
+        return Instant.now().isAfter(loadedAt.plus(REFRESH_AFTER));
+    }
+
+    private boolean isNewer(PlaylistDTO current, PlaylistDTO candidate) {
+        return current != null && current.getUpdatedAt() != null && candidate.getUpdatedAt() != null
+                && current.getUpdatedAt().isAfter(candidate.getUpdatedAt());
+    }
+
+    private void publish(Message message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            logger.warn("Could not publish public playlist invalidation: {}", e.getMessage());
+        }
+    }
+
+    private record Key(LocalDateTime createdAt, Long id) {
+    }
+
+    private record Message(Type type, Long playlistId, PlaylistDTO playlist) {
+        private enum Type {
+            UPSERT,
+            REMOVE,
+            INVALIDATE
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.spotify.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spotify.entities.User;
+import com.spotify.exceptions.UserNotFoundException;
+import com.spotify.repositories.UserRepository;
+import com.spotify.utils.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class RealtimeEventService {
+    private static final Logger logger = LoggerFactory.getLogger(RealtimeEventService.class);
+    public static final String EVENTS_CHANNEL = "realtime:events";
+    private static final long EMITTER_TIMEOUT_MS = Duration.ofMinutes(30).toMillis();
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public RealtimeEventService(UserRepository userRepository,
+                                RedisTemplate<String, String> redisTemplate,
+                                ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public SseEmitter subscribe(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado"));
+        Long userId = user.getId();
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitters.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> unregister(userId, emitter));
+        emitter.onTimeout(() -> unregister(userId, emitter));
+        emitter.onError(e -> unregister(userId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("connected").data("{}"));
+        } catch (IOException e) {
+            unregister(userId, emitter);
+        }
+        return emitter;
+    }
+
+    public void publish(Collection<Long> userIds, String type, Object payload) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        String message;
+        try {
+            ObjectNode event = objectMapper.createObjectNode();
+            event.set("userIds", objectMapper.valueToTree(userIds));
+            event.put("type", type);
+            event.set("payload", objectMapper.valueToTree(payload));
+            message = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            logger.error("Could not serialize realtime event {}: {}", type, e.getMessage());
+            return;
+        }
+
+        TransactionHooks.afterCommit(() -> {
+            try {
+                redisTemplate.convertAndSend(EVENTS_CHANNEL, message);
+            } catch (Exception e) {
+                logger.warn("Could not publish realtime event {}, delivering locally: {}", type, e.getMessage());
+                deliverLocal(message);
+            }
+        });
+    }
+
+    public void deliverLocal(String message) {
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(message);
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring malformed realtime event: {}", e.getMessage());
+            return;
+        }
+
+        String type = event.path("type").asText();
+        String payload = event.path("payload").toString();
+
+        for (JsonNode userIdNode : event.path("userIds")) {
+            Set<SseEmitter> userEmitters = emitters.get(userIdNode.asLong());
+            if (userEmitters == null) {
+                continue;
+            }
+            for (SseEmitter emitter : userEmitters) {
+                send(userIdNode.asLong(), emitter, SseEmitter.event().name(type).data(payload));
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            unregister(userId, emitter);
+        }
+    }
+
+    private void unregister(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
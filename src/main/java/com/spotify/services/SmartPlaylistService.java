@@ -0,0 +1,353 @@
+package com.spotify.services;
+
+import com.spotify.business.dto.CreateSmartPlaylistRequest;
+import com.spotify.business.dto.PlaylistDTO;
+import com.spotify.business.dto.SmartPlaylistRulesDTO;
+import com.spotify.entities.Music;
+import com.spotify.entities.Playlist;
+import com.spotify.entities.SmartPlaylistRule;
+import com.spotify.entities.User;
+import com.spotify.events.MusicChangedEvent;
+import com.spotify.events.MusicLikeChangedEvent;
+import com.spotify.exceptions.ForbiddenOperationException;
+import com.spotify.repositories.MusicRepository;
+import com.spotify.repositories.PlaylistMusicBatchRepository;
+import com.spotify.repositories.PlaylistMusicRepository;
+import com.spotify.repositories.PlaylistRepository;
+import com.spotify.repositories.SmartPlaylistRuleRepository;
+import com.spotify.repositories.UserRepository;
+import com.spotify.utils.PlaylistPositions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+@Service
+public class SmartPlaylistService {
+    private static final Logger logger = LoggerFactory.getLogger(SmartPlaylistService.class);
+    private static final int MAX_TRACKS = Integer.MAX_VALUE / PlaylistPositions.GAP - 1;
+    private static final int SYNC_MAX_ATTEMPTS = 3;
+    private static final long SYNC_RETRY_BACKOFF_MS = 50;
+
+    private final SmartPlaylistRuleRepository ruleRepository;
+    private final PlaylistRepository playlistRepository;
+    private final PlaylistMusicRepository playlistMusicRepository;
+    private final PlaylistMusicBatchRepository playlistMusicBatchRepository;
+    private final MusicRepository musicRepository;
+    private final UserRepository userRepository;
+    private final PlaylistService playlistService;
+    private final PlaylistCollaboratorService collaboratorService;
+    private final PlaylistPositionAllocator positionAllocator;
+    private final PlaylistPositionRebalancer positionRebalancer;
+    private final PlaylistChangeLog changeLog;
+    private final RealtimeEventService realtimeEventService;
+    private final TransactionTemplate syncTransaction;
+
+    public SmartPlaylistService(SmartPlaylistRuleRepository ruleRepository,
+                                PlaylistRepository playlistRepository,
+                                PlaylistMusicRepository playlistMusicRepository,
+                                PlaylistMusicBatchRepository playlistMusicBatchRepository,
+                                MusicRepository musicRepository,
+                                UserRepository userRepository,
+                                PlaylistService playlistService,
+                                PlaylistCollaboratorService collaboratorService,
+                                PlaylistPositionAllocator positionAllocator,
+                                PlaylistPositionRebalancer positionRebalancer,
+                                PlaylistChangeLog changeLog,
+                                RealtimeEventService realtimeEventService,
+                                PlatformTransactionManager transactionManager) {
+        this.ruleRepository = ruleRepository;
+        this.playlistRepository = playlistRepository;
+        this.playlistMusicRepository = playlistMusicRepository;
+        this.playlistMusicBatchRepository = playlistMusicBatchRepository;
+        this.musicRepository = musicRepository;
+        this.userRepository = userRepository;
+        this.playlistService = playlistService;
+        this.collaboratorService = collaboratorService;
+        this.positionAllocator = positionAllocator;
+        this.positionRebalancer = positionRebalancer;
+        this.changeLog = changeLog;
+        this.realtimeEventService = realtimeEventService;
+        this.syncTransaction = new TransactionTemplate(transactionManager);
+        this.syncTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public PlaylistDTO createSmartPlaylist(CreateSmartPlaylistRequest request, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        LocalDateTime now = LocalDateTime.now();
+        Playlist playlist = new Playlist();
+        playlist.setName(request.getName());
+        playlist.setIsPublic(request.getIsPublic());
+        playlist.setSmart(true);
+        playlist.setUser(user);
+        playlist.setCreatedAt(now);
+        playlist.setUpdatedAt(now);
+        Playlist savedPlaylist = playlistRepository.save(playlist);
+
+        SmartPlaylistRule rule = new SmartPlaylistRule();
+        rule.setPlaylist(savedPlaylist);
+        applyRules(rule, request.getRules());
+        rule.setCreatedAt(now);
+        rule.setUpdatedAt(now);
+        ruleRepository.save(rule);
+
+        int materialized = playlistMusicBatchRepository.insertMatching(
+                savedPlaylist.getId(), user.getId(), rule, PlaylistPositions.GAP, MAX_TRACKS, now);
+        logger.info("Smart playlist {} created with {} tracks", savedPlaylist.getId(), materialized);
+
+        playlistService.syncPublicCache(savedPlaylist.getId());
+        return playlistService.getPlaylistHeader(savedPlaylist.getId(), userEmail);
+    }
+
+    @Transactional(readOnly = true)
+    public SmartPlaylistRulesDTO getRules(Long playlistId, String userEmail) {
+        playlistService.assertCanView(playlistId, userEmail);
+
+        SmartPlaylistRule rule = ruleRepository.findByPlaylistIdWithBands(playlistId)
+                .orElseThrow(() -> new IllegalArgumentException("Esta playlist não é uma playlist inteligente"));
+
+        return convertToDTO(rule);
+    }
+
+    @Transactional
+    public PlaylistDTO updateRules(Long playlistId, SmartPlaylistRulesDTO request, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
+                .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+
+        if (!playlist.getUser().getId().equals(user.getId())) {
+            throw new ForbiddenOperationException("Apenas o dono da playlist pode alterar suas regras");
+        }
+
+        SmartPlaylistRule rule = ruleRepository.findByPlaylistIdWithBands(playlistId)
+                .orElseThrow(() -> new IllegalArgumentException("Esta playlist não é uma playlist inteligente"));
+
+        LocalDateTime now = LocalDateTime.now();
+        applyRules(rule, request);
+        rule.setUpdatedAt(now);
+        ruleRepository.save(rule);
+
+        playlistMusicRepository.deleteAllByPlaylistId(playlistId);
+        int materialized = playlistMusicBatchRepository.insertMatching(
+                playlistId, user.getId(), rule, PlaylistPositions.GAP, MAX_TRACKS, now);
+
+        playlist.setUpdatedAt(now);
+        playlistRepository.save(playlist);
+        changeLog.record(playlistId, PlaylistChangeLog.Entry.positionsReset());
+        positionAllocator.reset(playlistId);
+        playlistService.syncPublicCache(playlistId);
+        publishEvent(playlist, "playlist.rules.updated", List.of());
+        logger.info("Smart playlist {} rematerialized with {} tracks", playlistId, materialized);
+
+        return playlistService.getPlaylistHeader(playlistId, userEmail);
+    }
+
+    @EventListener
+    public void onMusicDeleting(MusicChangedEvent event) {
+        if (event.type() != MusicChangedEvent.Type.DELETED) {
+            return;
+        }
+        for (Long playlistId : new TreeSet<>(playlistMusicRepository.findSmartPlaylistIdsContaining(event.musicId()))) {
+            removeTracks(playlistId, List.of(event.musicId()));
+        }
+    }
+
+    @Async("smartPlaylistExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMusicChanged(MusicChangedEvent event) {
+        if (event.type() == MusicChangedEvent.Type.DELETED) {
+            return;
+        }
+        syncMusicWithRetry(event.musicId());
+    }
+
+    @Async("smartPlaylistExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMusicLikeChanged(MusicLikeChangedEvent event) {
+        syncMusicWithRetry(event.musicId());
+    }
+
+    @Scheduled(cron = "0 15 4 * * *")
+    @Transactional
+    public void pruneExpiredTracks() {
+        Map<Long, List<String>> expired = new TreeMap<>();
+        for (Object[] row : ruleRepository.findExpiredTracks(LocalDateTime.now())) {
+            Long playlistId = ((Number) row[0]).longValue();
+            expired.computeIfAbsent(playlistId, id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        expired.forEach(this::removeTracks);
+        if (!expired.isEmpty()) {
+            logger.info("Pruned expired tracks from {} smart playlists", expired.size());
+        }
+    }
+
+    private void syncMusicWithRetry(String musicId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                syncTransaction.executeWithoutResult(status -> syncMusic(musicId));
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= SYNC_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                logger.warn("Smart playlist sync for music {} hit a lock conflict (attempt {}): {}",
+                        musicId, attempt, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(SYNC_RETRY_BACKOFF_MS * attempt + ThreadLocalRandom.current().nextLong(SYNC_RETRY_BACKOFF_MS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void syncMusic(String musicId) {
+        Music music = musicRepository.findById(musicId).orElse(null);
+        if (music == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> matching = ruleRepository.findMatchingRules(musicId, normalize(music.getGenre()), normalize(music.getBand()))
+                .stream()
+                .filter(rule -> rule.getAddedWithinDays() == null
+                        || !music.getCreatedAt().isBefore(now.minusDays(rule.getAddedWithinDays())))
+                .map(rule -> rule.getPlaylist().getId())
+                .collect(Collectors.toSet());
+        Set<Long> current = new HashSet<>(playlistMusicRepository.findSmartPlaylistIdsContaining(musicId));
+
+        NavigableMap<Long, Boolean> changes = new TreeMap<>();
+        for (Long playlistId : matching) {
+            if (!current.remove(playlistId)) {
+                changes.put(playlistId, true);
+            }
+        }
+        for (Long playlistId : current) {
+            changes.put(playlistId, false);
+        }
+
+        changes.forEach((playlistId, add) -> {
+            if (add) {
+                addTrack(playlistId, musicId);
+            } else {
+                removeTracks(playlistId, List.of(musicId));
+            }
+        });
+    }
+
+    private void addTrack(Long playlistId, String musicId) {
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId).orElse(null);
+        if (playlist == null || !playlistMusicRepository.findMusicIdsInPlaylist(playlist, List.of(musicId)).isEmpty()) {
+            return;
+        }
+
+        Integer position = positionAllocator.allocate(playlist);
+        if (position == null) {
+            positionRebalancer.rebalance(playlistId);
+            playlist = playlistRepository.findById(playlistId)
+                    .orElseThrow(() -> new RuntimeException("Playlist não encontrada"));
+            position = positionAllocator.allocate(playlist);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        playlistMusicBatchRepository.insertAll(playlistId, List.of(musicId), position, PlaylistPositions.GAP, now);
+        playlistRepository.touch(playlistId, now);
+        changeLog.record(playlistId, PlaylistChangeLog.Entry.added(musicId, position));
+        afterTracksChanged(playlist, "playlist.musics.added", List.of(musicId));
+    }
+
+    private void removeTracks(Long playlistId, List<String> musicIds) {
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId).orElse(null);
+        if (playlist == null || playlistMusicRepository.deleteByPlaylistIdAndMusicIds(playlistId, musicIds) == 0) {
+            return;
+        }
+
+        playlistRepository.touch(playlistId, LocalDateTime.now());
+        changeLog.record(playlistId, musicIds.stream()
+                .map(PlaylistChangeLog.Entry::removed)
+                .collect(Collectors.toList()));
+        afterTracksChanged(playlist, "playlist.musics.removed", musicIds);
+    }
+
+    private void afterTracksChanged(Playlist playlist, String type, List<String> musicIds) {
+        if (Boolean.TRUE.equals(playlist.getIsPublic())) {
+            playlistService.syncPublicCache(playlist.getId());
+        }
+        publishEvent(playlist, type, musicIds);
+    }
+
+    private void publishEvent(Playlist playlist, String type, List<String> musicIds) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("playlistId", playlist.getId());
+        payload.put("musicIds", List.copyOf(musicIds));
+        realtimeEventService.publish(collaboratorService.getMemberIds(playlist), type, payload);
+    }
+
+    private void applyRules(SmartPlaylistRule rule, SmartPlaylistRulesDTO request) {
+        String genre = normalize(request.getGenre());
+        Set<String> bands = request.getBands() == null
+                ? new HashSet<>()
+                : request.getBands().stream()
+                        .map(this::normalize)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toCollection(HashSet::new));
+        boolean likedByOwner = Boolean.TRUE.equals(request.getLikedByMe());
+
+        if (genre == null && bands.isEmpty() && !likedByOwner && request.getAddedWithinDays() == null) {
+            throw new IllegalArgumentException("Informe pelo menos uma regra para a playlist inteligente");
+        }
+
+        rule.setGenre(genre);
+        rule.getBands().clear();
+        rule.getBands().addAll(bands);
+        rule.setLikedByOwner(likedByOwner);
+        rule.setAddedWithinDays(request.getAddedWithinDays());
+    }
+
+    private SmartPlaylistRulesDTO convertToDTO(SmartPlaylistRule rule) {
+        SmartPlaylistRulesDTO dto = new SmartPlaylistRulesDTO();
+        dto.setGenre(rule.getGenre());
+        dto.setBands(rule.getBands().stream().sorted().collect(Collectors.toList()));
+        dto.setLikedByMe(rule.getLikedByOwner());
+        dto.setAddedWithinDays(rule.getAddedWithinDays());
+        return dto;
+    }
+
+    private String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,105 @@
+package com.spotify.services;
+
+import com.spotify.exceptions.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class UpstreamCallExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamCallExecutor.class);
+
+    private final Executor executor;
+    private final Map<Upstream, Semaphore> bulkheads = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, Duration> timeouts = new EnumMap<>(Upstream.class);
+
+    public UpstreamCallExecutor(@Qualifier("upstreamExecutor") Executor executor,
+                                @Value("${upstream.youtube.max-concurrent:16}") int youtubeMaxConcurrent,
+                                @Value("${upstream.youtube.timeout-ms:20000}") long youtubeTimeoutMs,
+                                @Value("${upstream.imagekit.max-concurrent:8}") int imageKitMaxConcurrent,
+                                @Value("${upstream.imagekit.timeout-ms:30000}") long imageKitTimeoutMs) {
+        this.executor = executor;
+        bulkheads.put(Upstream.YOUTUBE, new Semaphore(youtubeMaxConcurrent));
+        bulkheads.put(Upstream.IMAGEKIT, new Semaphore(imageKitMaxConcurrent));
+        timeouts.put(Upstream.YOUTUBE, Duration.ofMillis(youtubeTimeoutMs));
+        timeouts.put(Upstream.IMAGEKIT, Duration.ofMillis(imageKitTimeoutMs));
+    }
+
+    public <T> CompletableFuture<T> submit(Upstream upstream, Call<T> call) {
+        CompletableFuture<T> task = start(upstream, call);
+        if (task.isDone()) {
+            return task;
+        }
+
+        Duration timeout = timeouts.get(upstream);
+        return task.copy()
+            .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionallyCompose(error -> {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                if (cause instanceof TimeoutException) {
+                    logger.warn("Chamada a {} excedeu {} ms", upstream, timeout.toMillis());
+                    return CompletableFuture.failedFuture(new ServiceUnavailableException(
+                        "O serviço externo demorou demais para responder. Tente novamente mais tarde."));
+                }
+                return CompletableFuture.failedFuture(error);
+            });
+    }
+
+    public <T> CompletableFuture<T> submitMutation(Upstream upstream, Call<T> call) {
+        return start(upstream, call);
+    }
+
+    private <T> CompletableFuture<T> start(Upstream upstream, Call<T> call) {
+        Semaphore bulkhead = bulkheads.get(upstream);
+        if (!bulkhead.tryAcquire()) {
+            logger.warn("Bulkhead de {} cheio; requisição recusada", upstream);
+            return CompletableFuture.failedFuture(busy());
+        }
+
+        CompletableFuture<T> task;
+        try {
+            task = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(busy());
+        }
+        task.whenComplete((result, error) -> bulkhead.release());
+        return task;
+    }
+
+    private ServiceUnavailableException busy() {
+        return new ServiceUnavailableException("Serviço externo sobrecarregado. Tente novamente em instantes.");
+    }
+
+    public enum Upstream {
+        YOUTUBE,
+        IMAGEKIT
+    }
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Exception;
+    }
+}
@@ -5,6 +5,7 @@ import com.spotify.business.dto.UserProfileUpdateDTO;
 import com.spotify.entities.User;
 import com.spotify.exceptions.UserNotFoundException;
 import com.spotify.repositories.UserRepository;
+import com.spotify.utils.TransactionHooks;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,20 +18,28 @@ import java.util.Map;
 @Service
 public class UserProfileService {
     private final UserRepository userRepository;
-    private final ImageKitStorageService imageKitStorageService;
+    private final ImageStorageService imageStorageService;
     private final PasswordEncoder passwordEncoder;
+    private final PublicPlaylistCache publicPlaylistCache;
+    private final PlaylistDetailCache playlistDetailCache;
+    private final ImageRenditionService imageRenditionService;
 
-    public UserProfileService(UserRepository userRepository, ImageKitStorageService imageKitStorageService, PasswordEncoder passwordEncoder) {
+    public UserProfileService(UserRepository userRepository, ImageStorageService imageStorageService, PasswordEncoder passwordEncoder,
+                              PublicPlaylistCache publicPlaylistCache, PlaylistDetailCache playlistDetailCache,
+                              ImageRenditionService imageRenditionService) {
         this.userRepository = userRepository;
-        this.imageKitStorageService = imageKitStorageService;
+        this.imageStorageService = imageStorageService;
         this.passwordEncoder = passwordEncoder;
+        this.publicPlaylistCache = publicPlaylistCache;
+        this.playlistDetailCache = playlistDetailCache;
+        this.imageRenditionService = imageRenditionService;
     }
 
     public UserProfileResponseDTO getProfile(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado"));
         
-        return new UserProfileResponseDTO(user.getId(), user.getName(), user.getEmail(), user.getAvatarUrl());
+        return toResponseDTO(user);
     }
 
     @Transactional
@@ -60,8 +69,15 @@ public class UserProfileService {
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
-        return new UserProfileResponseDTO(updatedUser.getId(), updatedUser.getName(), 
-                                         updatedUser.getEmail(), updatedUser.getAvatarUrl());
+
+        if (!currentName.equals(newName)) {
+            TransactionHooks.afterCommit(() -> {
+                publicPlaylistCache.invalidate();
+                playlistDetailCache.invalidateAll();
+            });
+        }
+
+        return toResponseDTO(updatedUser);
     }
 
     @Transactional
@@ -69,18 +85,16 @@ public class UserProfileService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado"));
 
-        if (user.getAvatarFileId() != null && !user.getAvatarFileId().isEmpty()) {
-            imageKitStorageService.deleteMusicCover(user.getAvatarFileId());
-        }
-
-        Map<String, String> uploadResult = imageKitStorageService.uploadMusicCover(avatar);
+        String previousFileId = user.getAvatarFileId();
+        Map<String, String> uploadResult = imageStorageService.uploadMusicCover(avatar);
         user.setAvatarUrl(uploadResult.get("url"));
         user.setAvatarFileId(uploadResult.get("fileId"));
+        imageStorageService.deleteMusicCover(previousFileId);
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
-        return new UserProfileResponseDTO(updatedUser.getId(), updatedUser.getName(), 
-                                         updatedUser.getEmail(), updatedUser.getAvatarUrl());
+        imageRenditionService.warmAfterCommit(updatedUser.getAvatarUrl());
+        return toResponseDTO(updatedUser);
     }
 
     @Transactional
@@ -89,7 +103,7 @@ public class UserProfileService {
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado"));
 
         if (user.getAvatarFileId() != null && !user.getAvatarFileId().isEmpty()) {
-            imageKitStorageService.deleteMusicCover(user.getAvatarFileId());
+            imageStorageService.deleteMusicCover(user.getAvatarFileId());
         }
 
         user.setAvatarUrl(null);
@@ -119,12 +133,20 @@ public class UserProfileService {
 
         if (user.getAvatarFileId() != null && !user.getAvatarFileId().isEmpty()) {
             try {
-                imageKitStorageService.deleteMusicCover(user.getAvatarFileId());
+                imageStorageService.deleteMusicCover(user.getAvatarFileId());
             } catch (Exception e) {
                 System.err.println("Erro ao deletar avatar: " + e.getMessage());
             }
         }
 
         userRepository.delete(user);
+        TransactionHooks.afterCommit(publicPlaylistCache::invalidate);
+    }
+
+    private UserProfileResponseDTO toResponseDTO(User user) {
+        UserProfileResponseDTO dto = new UserProfileResponseDTO(user.getId(), user.getName(),
+                                                                user.getEmail(), user.getAvatarUrl());
+        dto.setImageUrls(imageRenditionService.renditionsFor(user.getAvatarUrl()));
+        return dto;
     }
 }
@@ -7,6 +7,7 @@ import com.spotify.repositories.UserRepository;
 import com.spotify.exceptions.EmailAlreadyExistsException;
 import com.spotify.exceptions.ForbiddenOperationException;
 import com.spotify.exceptions.UserNotFoundException;
+import com.spotify.utils.TransactionHooks;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,11 +17,14 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final RedisPasswordResetService redisPasswordResetService;
+    private final PublicPlaylistCache publicPlaylistCache;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, RedisPasswordResetService redisPasswordResetService) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, RedisPasswordResetService redisPasswordResetService,
+                       PublicPlaylistCache publicPlaylistCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.redisPasswordResetService = redisPasswordResetService;
+        this.publicPlaylistCache = publicPlaylistCache;
     }
 
     @Transactional
@@ -49,6 +53,7 @@ public class UserService {
                 .map(user -> {
                     redisPasswordResetService.deleteAllTokensByEmail(user.getEmail());
                     userRepository.deleteById(id);
+                    TransactionHooks.afterCommit(publicPlaylistCache::invalidate);
                     return ResponseDTO.success("Usuário deletado com sucesso");
                 })
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado"));
@@ -0,0 +1,200 @@
+package com.spotify.services;
+
+import com.spotify.entities.Music;
+import com.spotify.repositories.MusicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class YouTubeBackfillService {
+    private static final Logger logger = LoggerFactory.getLogger(YouTubeBackfillService.class);
+    private static final String LOCK_KEY = "youtube_backfill:lock";
+    private static final String PROGRESS_KEY = "youtube_backfill:progress";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int VIDEOS_BATCH_SIZE = 50;
+    private static final Set<Music.YoutubeStatus> RETRYABLE =
+        EnumSet.of(Music.YoutubeStatus.NOT_FOUND, Music.YoutubeStatus.FAILED);
+
+    private final MusicRepository musicRepository;
+    private final YouTubeService youTubeService;
+    private final YouTubeQuotaBudget quotaBudget;
+    private final PlaylistDetailCache playlistDetailCache;
+    private final MusicListCache musicListCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${youtube.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${youtube.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${youtube.backfill.max-requeue-per-run:100}")
+    private int maxRequeuePerRun;
+
+    @Value("${youtube.backfill.quota-reserve:3000}")
+    private long quotaReserve;
+
+    public YouTubeBackfillService(MusicRepository musicRepository,
+                                  YouTubeService youTubeService,
+                                  YouTubeQuotaBudget quotaBudget,
+                                  PlaylistDetailCache playlistDetailCache,
+                                  MusicListCache musicListCache,
+                                  RedisTemplate<String, String> redisTemplate) {
+        this.musicRepository = musicRepository;
+        this.youTubeService = youTubeService;
+        this.quotaBudget = quotaBudget;
+        this.playlistDetailCache = playlistDetailCache;
+        this.musicListCache = musicListCache;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${youtube.backfill.interval-ms:300000}", initialDelay = 120000)
+    public void runBackfill() {
+        if (!enabled || !youTubeService.isAvailable()) {
+            return;
+        }
+
+        long headroom = quotaBudget.remaining() - quotaReserve;
+        if (headroom < YouTubeQuotaBudget.VIDEOS_LIST_COST) {
+            return;
+        }
+
+        if (!acquireLock()) {
+            return;
+        }
+        try {
+            backfillChunk(headroom);
+        } catch (DataAccessException e) {
+            logger.warn("Falha no backfill do YouTube; retomando na próxima execução: {}", e.getMessage());
+        } finally {
+            releaseLock();
+        }
+    }
+
+    private void backfillChunk(long headroom) {
+        HashOperations<String, String, String> progress = redisTemplate.opsForHash();
+        String cursor = Objects.requireNonNullElse(progress.get(PROGRESS_KEY, "cursor"), "");
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Music> candidates = musicRepository.findBackfillCandidates(
+                cursor, RETRYABLE, Music.YoutubeStatus.PENDING, now, PageRequest.of(0, chunkSize));
+
+        int requeueLimit = (int) Math.min(maxRequeuePerRun, headroom / YouTubeQuotaBudget.SEARCH_COST);
+        List<String> missing = new ArrayList<>();
+        List<Music> stale = new ArrayList<>();
+        String lastScanned = cursor;
+        boolean stoppedEarly = false;
+
+        for (Music music : candidates) {
+            if (music.getYoutubeVideoId() == null) {
+                if (missing.size() >= requeueLimit) {
+                    stoppedEarly = true;
+                    break;
+                }
+                missing.add(music.getId());
+            } else {
+                stale.add(music);
+            }
+            lastScanned = music.getId();
+        }
+
+        int refreshed = 0;
+        int removed = 0;
+        List<String> changed = new ArrayList<>();
+        try {
+            for (int start = 0; start < stale.size(); start += VIDEOS_BATCH_SIZE) {
+                List<Music> batch = stale.subList(start, Math.min(start + VIDEOS_BATCH_SIZE, stale.size()));
+                Set<String> videoIds = new LinkedHashSet<>();
+                batch.forEach(music -> videoIds.add(music.getYoutubeVideoId()));
+
+                Map<String, String> thumbnails = youTubeService.fetchThumbnails(videoIds);
+                for (Music music : batch) {
+                    String thumbnailUrl = thumbnails.get(music.getYoutubeVideoId());
+                    int updated;
+                    if (thumbnailUrl != null) {
+                        updated = musicRepository.refreshYoutubeVideo(music.getId(), music.getYoutubeVideoId(),
+                                thumbnailUrl, Music.YoutubeStatus.ENRICHED);
+                        refreshed += updated;
+                    } else {
+                        updated = musicRepository.resetRemovedVideo(music.getId(), music.getYoutubeVideoId(),
+                                Music.YoutubeStatus.PENDING, now);
+                        removed += updated;
+                    }
+                    if (updated > 0) {
+                        changed.add(music.getId());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Falha ao revalidar vídeos do YouTube no backfill; trecho será reprocessado: {}", e.getMessage());
+            invalidateIfChanged(changed, 0);
+            return;
+        }
+
+        int requeued = missing.isEmpty() ? 0
+            : musicRepository.requeueForEnrichment(missing, RETRYABLE, Music.YoutubeStatus.PENDING, now);
+        invalidateIfChanged(changed, requeued);
+
+        boolean passCompleted = !stoppedEarly && candidates.size() < chunkSize;
+        progress.put(PROGRESS_KEY, "cursor", passCompleted ? "" : lastScanned);
+        progress.increment(PROGRESS_KEY, "requeued", requeued);
+        progress.increment(PROGRESS_KEY, "refreshed", refreshed);
+        progress.increment(PROGRESS_KEY, "removed", removed);
+        if (passCompleted) {
+            progress.put(PROGRESS_KEY, "lastPassCompletedAt", now.toString());
+        }
+
+        if (requeued + refreshed + removed > 0 || passCompleted) {
+            logger.info("Backfill do YouTube: {} reenfileiradas, {} atualizadas, {} removidas{}",
+                    requeued, refreshed, removed, passCompleted ? " (varredura concluída)" : "");
+        }
+    }
+
+    private void invalidateIfChanged(List<String> changed, int requeued) {
+        if (!changed.isEmpty()) {
+            playlistDetailCache.evictPlaylistsContaining(changed);
+        }
+        if (!changed.isEmpty() || requeued > 0) {
+            musicListCache.evictAll();
+        }
+    }
+
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, instanceId, LOCK_TTL));
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao obter lock do backfill do YouTube: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            if (instanceId.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao liberar lock do backfill do YouTube: {}", e.getMessage());
+        }
+    }
+}
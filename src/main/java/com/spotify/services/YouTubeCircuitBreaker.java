@@ -0,0 +1,113 @@
+package com.spotify.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+public class YouTubeCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(YouTubeCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Duration probeTimeout;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.EPOCH;
+    private boolean probeInFlight;
+    private Instant probeStartedAt = Instant.EPOCH;
+
+    @Autowired
+    public YouTubeCircuitBreaker(@Value("${youtube.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                 @Value("${youtube.circuit-breaker.open-seconds:60}") long openSeconds,
+                                 @Value("${youtube.circuit-breaker.probe-timeout-seconds:30}") long probeTimeoutSeconds) {
+        this(failureThreshold, Duration.ofSeconds(openSeconds), Duration.ofSeconds(probeTimeoutSeconds), Clock.systemUTC());
+    }
+
+    YouTubeCircuitBreaker(int failureThreshold, Duration openDuration, Duration probeTimeout, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.probeTimeout = probeTimeout;
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openUntil)) {
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            Instant now = clock.instant();
+            if (probeInFlight && now.isBefore(probeStartedAt.plus(probeTimeout))) {
+                return false;
+            }
+            if (probeInFlight) {
+                logger.warn("Probe do circuito do YouTube sem resposta desde {}; liberando nova tentativa", probeStartedAt);
+            }
+            probeInFlight = true;
+            probeStartedAt = now;
+        }
+        return true;
+    }
+
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transition(State.CLOSED);
+        }
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            openUntil(clock.instant().plus(openDuration));
+        }
+    }
+
+    public synchronized void openUntil(Instant until) {
+        openUntil = until;
+        probeInFlight = false;
+        transition(State.OPEN);
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && !clock.instant().isBefore(openUntil)) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized Instant getRetryAt() {
+        return state == State.OPEN ? openUntil : clock.instant();
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            logger.warn("Circuito do YouTube: {} -> {}{}", state, next,
+                    next == State.OPEN ? " até " + openUntil : "");
+        }
+        state = next;
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
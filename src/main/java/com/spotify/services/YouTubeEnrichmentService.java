@@ -0,0 +1,179 @@
+package com.spotify.services;
+
+import com.spotify.entities.Music;
+import com.spotify.exceptions.YouTubeUnavailableException;
+import com.spotify.repositories.MusicRepository;
+import com.spotify.utils.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class YouTubeEnrichmentService {
+    private static final Logger logger = LoggerFactory.getLogger(YouTubeEnrichmentService.class);
+    private static final int MAX_ATTEMPTS = 6;
+    private static final int DISPATCH_BATCH_SIZE = 50;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final Duration NOT_FOUND_REVISIT = Duration.ofDays(30);
+    private static final Duration FAILED_REVISIT = Duration.ofDays(1);
+
+    private final MusicRepository musicRepository;
+    private final YouTubeService youTubeService;
+    private final PlaylistDetailCache playlistDetailCache;
+    private final MusicListCache musicListCache;
+    private final RealtimeEventService realtimeEventService;
+    private final Executor executor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public YouTubeEnrichmentService(MusicRepository musicRepository,
+                                    YouTubeService youTubeService,
+                                    PlaylistDetailCache playlistDetailCache,
+                                    MusicListCache musicListCache,
+                                    RealtimeEventService realtimeEventService,
+                                    @Qualifier("youtubeEnrichmentExecutor") Executor executor) {
+        this.musicRepository = musicRepository;
+        this.youTubeService = youTubeService;
+        this.playlistDetailCache = playlistDetailCache;
+        this.musicListCache = musicListCache;
+        this.realtimeEventService = realtimeEventService;
+        this.executor = executor;
+    }
+
+    public void enqueue(String musicId) {
+        TransactionHooks.afterCommit(() -> submit(musicId));
+    }
+
+    @Scheduled(fixedDelay = 60000, initialDelay = 30000)
+    public void dispatchDue() {
+        if (!youTubeService.isAvailable()) {
+            return;
+        }
+
+        List<String> due = musicRepository.findDueForEnrichment(
+                Music.YoutubeStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, DISPATCH_BATCH_SIZE));
+        due.forEach(this::submit);
+    }
+
+    private void submit(String musicId) {
+        if (!inFlight.add(musicId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    enrich(musicId);
+                } catch (RuntimeException e) {
+                    logger.error("Erro inesperado ao enriquecer música {}: {}", musicId, e.getMessage());
+                } finally {
+                    inFlight.remove(musicId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(musicId);
+            logger.warn("Fila de enriquecimento cheia; música {} será processada na próxima varredura", musicId);
+        }
+    }
+
+    private void enrich(String musicId) {
+        Music music = musicRepository.findById(musicId).orElse(null);
+        if (music == null || music.getYoutubeStatus() != Music.YoutubeStatus.PENDING) {
+            return;
+        }
+
+        Map<String, String> youtubeData;
+        try {
+            youtubeData = youTubeService.findMusicVideo(music.getName(), music.getBand());
+        } catch (IOException e) {
+            handleFailure(music, e);
+            return;
+        }
+
+        if (youtubeData == null) {
+            int updated = musicRepository.updateEnrichmentState(music.getId(), music.getName(), music.getBand(),
+                    Music.YoutubeStatus.NOT_FOUND, attemptsOf(music) + 1,
+                    LocalDateTime.now().plus(NOT_FOUND_REVISIT), Music.YoutubeStatus.PENDING);
+            if (updated > 0) {
+                musicListCache.evictAll();
+            }
+            return;
+        }
+
+        int updated = musicRepository.completeEnrichment(music.getId(), music.getName(), music.getBand(),
+                youtubeData.get("videoId"), youtubeData.get("thumbnailUrl"),
+                Music.YoutubeStatus.ENRICHED, Music.YoutubeStatus.PENDING);
+        if (updated > 0) {
+            playlistDetailCache.evictPlaylistsContaining(List.of(music.getId()));
+            musicListCache.evictAll();
+            publishEnriched(music, youtubeData);
+        }
+    }
+
+    private void handleFailure(Music music, IOException e) {
+        if (e instanceof YouTubeUnavailableException unavailable) {
+            LocalDateTime retryAt = LocalDateTime.ofInstant(unavailable.getRetryAt(), ZoneId.systemDefault());
+            logger.info("YouTube indisponível ({}); música {} adiada para {}", e.getMessage(), music.getId(), retryAt);
+            musicRepository.updateEnrichmentState(music.getId(), music.getName(), music.getBand(),
+                    Music.YoutubeStatus.PENDING, attemptsOf(music), retryAt, Music.YoutubeStatus.PENDING);
+            return;
+        }
+
+        int attempts = attemptsOf(music) + 1;
+        if (attempts >= MAX_ATTEMPTS) {
+            logger.error("Enriquecimento da música {} falhou após {} tentativas: {}", music.getId(), attempts, e.getMessage());
+            int updated = musicRepository.updateEnrichmentState(music.getId(), music.getName(), music.getBand(),
+                    Music.YoutubeStatus.FAILED, attempts, LocalDateTime.now().plus(FAILED_REVISIT),
+                    Music.YoutubeStatus.PENDING);
+            if (updated > 0) {
+                musicListCache.evictAll();
+            }
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        logger.warn("Erro ao buscar música {} no YouTube (tentativa {}), nova tentativa em {}: {}",
+                music.getId(), attempts, nextAttemptAt, e.getMessage());
+        musicRepository.updateEnrichmentState(music.getId(), music.getName(), music.getBand(),
+                Music.YoutubeStatus.PENDING, attempts, nextAttemptAt, Music.YoutubeStatus.PENDING);
+    }
+
+    private void publishEnriched(Music music, Map<String, String> youtubeData) {
+        if (music.getCreatedBy() == null) {
+            return;
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("musicId", music.getId());
+        payload.put("youtubeVideoId", youtubeData.get("videoId"));
+        payload.put("youtubeThumbnailUrl", youtubeData.get("thumbnailUrl"));
+        realtimeEventService.publish(List.of(music.getCreatedBy().getId()), "music.enriched", payload);
+    }
+
+    private Duration backoff(int attempts) {
+        long exponential = BASE_BACKOFF.toMillis() << Math.min(attempts - 1, 16);
+        long capped = Math.min(exponential, MAX_BACKOFF.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 4 + 1);
+        return Duration.ofMillis(capped - capped / 8 + jitter);
+    }
+
+    private int attemptsOf(Music music) {
+        return music.getYoutubeAttempts() == null ? 0 : music.getYoutubeAttempts();
+    }
+}
@@ -0,0 +1,83 @@
+package com.spotify.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@Component
+public class YouTubeQuotaBudget {
+    private static final Logger logger = LoggerFactory.getLogger(YouTubeQuotaBudget.class);
+    public static final int SEARCH_COST = 100;
+    public static final int VIDEOS_LIST_COST = 1;
+    private static final String REDIS_KEY_PREFIX = "youtube_quota:";
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+    private static final ZoneId RESET_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long dailyBudget;
+
+    public YouTubeQuotaBudget(RedisTemplate<String, String> redisTemplate,
+                              @Value("${youtube.quota.daily-budget:10000}") long dailyBudget) {
+        this.redisTemplate = redisTemplate;
+        this.dailyBudget = dailyBudget;
+    }
+
+    public boolean tryConsume(int cost) {
+        String key = currentKey();
+        try {
+            Long used = redisTemplate.opsForValue().increment(key, cost);
+            if (used == null) {
+                return true;
+            }
+            if (used == cost) {
+                redisTemplate.expire(key, KEY_TTL);
+            }
+            if (used > dailyBudget) {
+                redisTemplate.opsForValue().decrement(key, cost);
+                return false;
+            }
+            return true;
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao contabilizar cota do YouTube; permitindo chamada: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    public boolean isExhausted() {
+        return remaining() < SEARCH_COST;
+    }
+
+    public long remaining() {
+        try {
+            String used = redisTemplate.opsForValue().get(currentKey());
+            return used == null ? dailyBudget : Math.max(0, dailyBudget - Long.parseLong(used));
+        } catch (DataAccessException | NumberFormatException e) {
+            return dailyBudget;
+        }
+    }
+
+    public void markExhausted() {
+        try {
+            redisTemplate.opsForValue().set(currentKey(), String.valueOf(dailyBudget), KEY_TTL);
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao registrar esgotamento da cota do YouTube: {}", e.getMessage());
+        }
+        logger.warn("Cota diária do YouTube esgotada; chamadas suspensas até {}", nextReset());
+    }
+
+    public Instant nextReset() {
+        return LocalDate.now(RESET_ZONE).plusDays(1).atStartOfDay(RESET_ZONE).toInstant();
+    }
+
+    private String currentKey() {
+        return REDIS_KEY_PREFIX + LocalDate.now(RESET_ZONE);
+    }
+}
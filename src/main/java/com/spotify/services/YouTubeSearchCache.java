@@ -0,0 +1,121 @@
+package com.spotify.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.spotify.utils.QueryNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class YouTubeSearchCache {
+    private static final Logger logger = LoggerFactory.getLogger(YouTubeSearchCache.class);
+    private static final String REDIS_KEY_PREFIX = "youtube_search:";
+    private static final int MAX_LOCAL_ENTRIES = 5_000;
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(30);
+    private static final Duration LOCAL_NEGATIVE_TTL = Duration.ofMinutes(5);
+    private static final Duration REMOTE_TTL = Duration.ofDays(7);
+    private static final Duration REMOTE_NEGATIVE_TTL = Duration.ofHours(6);
+    private static final TypeReference<List<Map<String, String>>> RESULTS_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, List<Map<String, String>>> local = Caffeine.newBuilder()
+            .maximumSize(MAX_LOCAL_ENTRIES)
+            .expireAfter(new Expiry<String, List<Map<String, String>>>() {
+                @Override
+                public long expireAfterCreate(String key, List<Map<String, String>> value, long currentTime) {
+                    return (value.isEmpty() ? LOCAL_NEGATIVE_TTL : LOCAL_TTL).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, List<Map<String, String>> value,
+                                              long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, List<Map<String, String>> value,
+                                            long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public YouTubeSearchCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<Map<String, String>> get(String key, Loader loader) throws IOException {
+        List<Map<String, String>> cached = local.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        cached = readRemote(key);
+        if (cached != null) {
+            local.put(key, cached);
+            return cached;
+        }
+
+        List<Map<String, String>> loaded = freeze(loader.load());
+        local.put(key, loaded);
+        writeRemote(key, loaded);
+        return loaded;
+    }
+
+    public static String musicKey(String musicName, String bandName) {
+        return "music:" + QueryNormalizer.cacheKey(musicName) + "|" + QueryNormalizer.cacheKey(bandName);
+    }
+
+    public static String lyricsKey(String optimizedQuery) {
+        return "lyrics:" + QueryNormalizer.cacheKey(optimizedQuery);
+    }
+
+    private List<Map<String, String>> readRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            return json == null ? null : freeze(objectMapper.readValue(json, RESULTS_TYPE));
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Falha ao ler cache de busca do YouTube: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, List<Map<String, String>> results) {
+        try {
+            Duration ttl = results.isEmpty() ? REMOTE_NEGATIVE_TTL : REMOTE_TTL;
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key, objectMapper.writeValueAsString(results), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Falha ao gravar cache de busca do YouTube: {}", e.getMessage());
+        }
+    }
+
+    private static List<Map<String, String>> freeze(List<Map<String, String>> results) {
+        if (results == null || results.isEmpty()) {
+            return List.of();
+        }
+        return results.stream()
+                .map(result -> Collections.unmodifiableMap(new HashMap<>(result)))
+                .toList();
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        List<Map<String, String>> load() throws IOException;
+    }
+}
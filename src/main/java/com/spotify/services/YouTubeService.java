@@ -1,38 +1,93 @@
 package com.spotify.services;
 
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.api.services.youtube.YouTube;
+import com.google.api.services.youtube.YouTubeRequest;
 import com.google.api.services.youtube.model.SearchListResponse;
 import com.google.api.services.youtube.model.SearchResult;
+import com.google.api.services.youtube.model.Video;
+import com.google.api.services.youtube.model.VideoListResponse;
+import com.spotify.exceptions.ServiceUnavailableException;
+import com.spotify.exceptions.YouTubeUnavailableException;
+import com.spotify.utils.QueryNormalizer;
+import com.spotify.utils.SingleFlight;
+import com.spotify.utils.TitleParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class YouTubeService {
     private static final Logger logger = LoggerFactory.getLogger(YouTubeService.class);
     private static final long MAX_RESULTS = 1;
+    private static final Duration COALESCED_WAIT_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration LYRICS_VARIANT_GRACE = Duration.ofMillis(200);
+    private static final int LYRICS_MAX_RESULTS = 3;
 
     @Value("${youtube.api.key}")
     private String apiKey;
 
+    @Value("${youtube.lyrics-search.max-variants:3}")
+    private int lyricsMaxVariants;
+
+    @Value("${youtube.lyrics-search.deadline-ms:2500}")
+    private long lyricsSearchDeadlineMs;
+
+    @Value("${youtube.lyrics-search.variant-quota-reserve:2000}")
+    private long lyricsVariantQuotaReserve;
+
     private YouTube youtube;
 
-    public YouTubeService() {
+    private final YouTubeSearchCache searchCache;
+    private final SingleFlight<String, List<Map<String, String>>> searchFlight =
+        new SingleFlight<>("youtube-search", COALESCED_WAIT_TIMEOUT);
+
+    private final YouTubeQuotaBudget quotaBudget;
+    private final YouTubeCircuitBreaker circuitBreaker;
+    private final Executor searchExecutor;
+
+    public YouTubeService(YouTubeSearchCache searchCache,
+                          YouTubeQuotaBudget quotaBudget,
+                          YouTubeCircuitBreaker circuitBreaker,
+                          @Qualifier("youtubeSearchExecutor") Executor searchExecutor,
+                          @Value("${youtube.api.root-url:https://youtube.googleapis.com/}") String rootUrl,
+                          @Value("${youtube.api.connect-timeout-ms:5000}") int connectTimeoutMs,
+                          @Value("${youtube.api.read-timeout-ms:10000}") int readTimeoutMs) {
+        this.searchCache = searchCache;
+        this.quotaBudget = quotaBudget;
+        this.circuitBreaker = circuitBreaker;
+        this.searchExecutor = searchExecutor;
         try {
             this.youtube = new YouTube.Builder(
                 GoogleNetHttpTransport.newTrustedTransport(),
                 JacksonFactory.getDefaultInstance(),
-                null
-            ).setApplicationName("Spotify-App").build();
+                request -> {
+                    request.setConnectTimeout(connectTimeoutMs);
+                    request.setReadTimeout(readTimeoutMs);
+                }
+            ).setApplicationName("Spotify-App").setRootUrl(rootUrl).build();
         } catch (GeneralSecurityException | IOException e) {
             logger.error("Erro ao inicializar YouTube Service: {}", e.getMessage());
         }
@@ -40,43 +95,44 @@ public class YouTubeService {
 
     public Map<String, String> searchMusic(String musicName, String bandName) {
         try {
-            String query = musicName + " " + bandName + " official";
-            
-            YouTube.Search.List search = youtube.search()
-                .list(List.of("id", "snippet"));
-            
-            search.setKey(apiKey);
-            search.setQ(query);
-            search.setType(List.of("video"));
-            search.setMaxResults(MAX_RESULTS);
-            search.setVideoCategoryId("10");
-            search.setFields("items(id/videoId,snippet/thumbnails/high/url)");
-
-            SearchListResponse searchResponse = search.execute();
-            List<SearchResult> searchResults = searchResponse.getItems();
-
-            if (searchResults != null && !searchResults.isEmpty()) {
-                SearchResult firstResult = searchResults.get(0);
-                String videoId = firstResult.getId().getVideoId();
-                String thumbnailUrl = firstResult.getSnippet().getThumbnails().getHigh().getUrl();
-
-                Map<String, String> result = new HashMap<>();
-                result.put("videoId", videoId);
-                result.put("thumbnailUrl", thumbnailUrl);
-
-                logger.info("Vídeo encontrado no YouTube para '{}' - '{}': {}", musicName, bandName, videoId);
-                return result;
-            }
+            return findMusicVideo(musicName, bandName);
+        } catch (IOException e) {
+            logger.error("Erro ao buscar música no YouTube: {}", e.getMessage());
+            return null;
+        }
+    }
 
+    public Map<String, String> findMusicVideo(String musicName, String bandName) throws IOException {
+        List<Map<String, String>> results = search(
+            YouTubeSearchCache.musicKey(musicName, bandName),
+            () -> fetchMusicVideo(musicName, bandName));
+
+        if (results.isEmpty()) {
             logger.warn("Nenhum vídeo encontrado no YouTube para '{}' - '{}'", musicName, bandName);
             return null;
+        }
 
-        } catch (IOException e) {
-            logger.error("Erro ao buscar música no YouTube: {}", e.getMessage());
-            return null;
+        Map<String, String> result = new HashMap<>(results.get(0));
+        logger.info("Vídeo encontrado no YouTube para '{}' - '{}': {}", musicName, bandName, result.get("videoId"));
+        return result;
+    }
+
+    public static boolean isQuotaExceeded(IOException e) {
+        if (!(e instanceof GoogleJsonResponseException responseException) || responseException.getStatusCode() != 403) {
+            return false;
+        }
+        GoogleJsonError details = responseException.getDetails();
+        if (details == null || details.getErrors() == null) {
+            return false;
         }
+        return details.getErrors().stream()
+            .anyMatch(error -> "quotaExceeded".equals(error.getReason())
+                || "dailyLimitExceeded".equals(error.getReason()));
     }
 
+    public boolean isAvailable() {
+        return !quotaBudget.isExhausted() && circuitBreaker.getState() != YouTubeCircuitBreaker.State.OPEN;
+    }
 
     public String getEmbedUrl(String videoId) {
         return "https://www.youtube.com/embed/" + videoId + "?start=30&autoplay=0";
@@ -88,70 +144,32 @@ public class YouTubeService {
 
     public Map<String, String> searchByLyrics(String lyrics) {
         try {
-            String optimizedQuery = optimizeLyricsForSearch(lyrics);
+            String optimizedQuery = QueryNormalizer.lyricsQuery(lyrics);
 
             logger.info("Query otimizada para busca: '{}'", optimizedQuery);
 
-            YouTube.Search.List search = youtube.search()
-                .list(List.of("id", "snippet"));
-
-            search.setKey(apiKey);
-            search.setQ(optimizedQuery);
-            search.setType(List.of("video"));
-            search.setMaxResults(3L);
-            search.setFields("items(id/videoId,snippet(title,thumbnails/high/url))");
-
-            SearchListResponse searchResponse = search.execute();
-            List<SearchResult> searchResults = searchResponse.getItems();
-
-            if (searchResults != null && !searchResults.isEmpty()) {
-                for (SearchResult result : searchResults) {
-                    String videoId = result.getId().getVideoId();
-                    String title = result.getSnippet().getTitle();
-
-                    if (title.toLowerCase().contains("lyrics") ||
-                        title.toLowerCase().contains("letra") ||
-                        title.toLowerCase().contains("music") ||
-                        title.toLowerCase().contains("official") ||
-                        title.toLowerCase().contains("audio") ||
-                        title.contains("-") || title.contains("|")) {
-
-                        String thumbnailUrl = result.getSnippet().getThumbnails().getHigh().getUrl();
-                        String[] parts = extractMusicInfo(title);
-
-                        Map<String, String> resultMap = new HashMap<>();
-                        resultMap.put("videoId", videoId);
-                        resultMap.put("thumbnailUrl", thumbnailUrl);
-                        resultMap.put("musicName", parts[0]);
-                        resultMap.put("bandName", parts[1]);
-                        resultMap.put("originalTitle", title);
-
-                        logger.info("Vídeo encontrado por letra '{}': {} - {}", optimizedQuery, parts[0], parts[1]);
-                        return resultMap;
+            List<Map<String, String>> results = searchLyrics(optimizedQuery);
+
+            if (!results.isEmpty()) {
+                for (Map<String, String> result : results) {
+                    if (TitleParser.looksLikeMusicTitle(result.get("originalTitle"))) {
+                        logger.info("Vídeo encontrado por letra '{}': {} - {}", optimizedQuery,
+                            result.get("musicName"), result.get("bandName"));
+                        return new HashMap<>(result);
                     }
                 }
 
-                SearchResult firstResult = searchResults.get(0);
-                String videoId = firstResult.getId().getVideoId();
-                String title = firstResult.getSnippet().getTitle();
-                String thumbnailUrl = firstResult.getSnippet().getThumbnails().getHigh().getUrl();
-
-                String[] parts = extractMusicInfo(title);
-
-                Map<String, String> result = new HashMap<>();
-                result.put("videoId", videoId);
-                result.put("thumbnailUrl", thumbnailUrl);
-                result.put("musicName", parts[0]);
-                result.put("bandName", parts[1]);
-                result.put("originalTitle", title);
-
-                logger.info("Vídeo encontrado por letra '{}': {} - {}", optimizedQuery, parts[0], parts[1]);
+                Map<String, String> result = new HashMap<>(results.get(0));
+                logger.info("Vídeo encontrado por letra '{}': {} - {}", optimizedQuery,
+                    result.get("musicName"), result.get("bandName"));
                 return result;
             }
 
             logger.warn("Nenhum vídeo encontrado para a letra: '{}'", optimizedQuery);
             return null;
 
+        } catch (YouTubeUnavailableException e) {
+            throw new ServiceUnavailableException("A busca no YouTube está temporariamente indisponível. Tente novamente mais tarde.");
         } catch (IOException e) {
             logger.error("Erro ao buscar música por letra no YouTube: {}", e.getMessage());
             return null;
@@ -160,129 +178,243 @@ public class YouTubeService {
 
     public List<Map<String, String>> searchMultipleSongsByLyrics(String lyrics) {
         try {
-            String optimizedQuery = optimizeLyricsForSearch(lyrics);
-
-            logger.info("Query otimizada para busca múltipla: '{}'", optimizedQuery);
-
-            YouTube.Search.List search = youtube.search()
-                .list(List.of("id", "snippet"));
-
-            search.setKey(apiKey);
-            search.setQ(optimizedQuery);
-            search.setType(List.of("video"));
-            search.setMaxResults(3L);
-            search.setFields("items(id/videoId,snippet(title,thumbnails/high/url))");
-
-            SearchListResponse searchResponse = search.execute();
-            List<SearchResult> searchResults = searchResponse.getItems();
+            List<String> queries = lyricsQueries(lyrics);
 
-            List<Map<String, String>> results = new java.util.ArrayList<>();
+            logger.info("Queries otimizadas para busca múltipla: {}", queries);
 
-            if (searchResults != null && !searchResults.isEmpty()) {
-                for (SearchResult result : searchResults) {
-                    String videoId = result.getId().getVideoId();
-                    String title = result.getSnippet().getTitle();
-                    String thumbnailUrl = result.getSnippet().getThumbnails().getHigh().getUrl();
-
-                    String[] parts = extractMusicInfo(title);
-
-                    Map<String, String> resultMap = new HashMap<>();
-                    resultMap.put("videoId", videoId);
-                    resultMap.put("thumbnailUrl", thumbnailUrl);
-                    resultMap.put("musicName", parts[0]);
-                    resultMap.put("bandName", parts[1]);
-                    resultMap.put("originalTitle", title);
-
-                    results.add(resultMap);
-                }
+            List<Map<String, String>> results = rankLyricsResults(searchLyricsVariants(queries));
 
+            if (!results.isEmpty()) {
                 logger.info("Encontrados {} vídeos para a letra", results.size());
                 return results;
             }
 
             logger.warn("Nenhum vídeo encontrado para a letra");
-            return new java.util.ArrayList<>();
+            return results;
 
+        } catch (YouTubeUnavailableException e) {
+            throw new ServiceUnavailableException("A busca no YouTube está temporariamente indisponível. Tente novamente mais tarde.");
         } catch (IOException e) {
             logger.error("Erro ao buscar músicas por letra no YouTube: {}", e.getMessage());
             return new java.util.ArrayList<>();
         }
     }
 
-    private String optimizeLyricsForSearch(String lyrics) {
-        String[] lines = lyrics.split("\\n");
-        StringBuilder queryBuilder = new StringBuilder();
+    private List<String> lyricsQueries(String lyrics) {
+        long variantsCost = (long) lyricsMaxVariants * YouTubeQuotaBudget.SEARCH_COST;
+        boolean canAffordVariants = quotaBudget.remaining() - variantsCost >= lyricsVariantQuotaReserve;
+        return QueryNormalizer.lyricsQueryVariants(lyrics, canAffordVariants ? lyricsMaxVariants : 1);
+    }
+
+    private List<List<Map<String, String>>> searchLyricsVariants(List<String> queries) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lyricsSearchDeadlineMs);
+
+        List<CompletableFuture<List<Map<String, String>>>> variants = new java.util.ArrayList<>();
+        for (String query : queries.subList(1, queries.size())) {
+            try {
+                variants.add(CompletableFuture.supplyAsync(() -> searchLyricsVariant(query), searchExecutor));
+            } catch (RejectedExecutionException e) {
+                logger.debug("Executor de busca cheio; variante '{}' ignorada", query);
+            }
+        }
 
-        int lineCount = 0;
-        for (String line : lines) {
-            line = line.trim();
-            if (!line.isEmpty() && lineCount < 2) {
-                if (lineCount > 0) {
-                    queryBuilder.append(" ");
+        List<List<Map<String, String>>> resultsByQuery = new java.util.ArrayList<>();
+        resultsByQuery.add(searchLyrics(queries.get(0)));
+
+        long waitUntil = Math.min(deadline, System.nanoTime() + LYRICS_VARIANT_GRACE.toNanos());
+        for (CompletableFuture<List<Map<String, String>>> variant : variants) {
+            try {
+                resultsByQuery.add(variant.get(Math.max(0, waitUntil - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException | ExecutionException e) {
+                logger.debug("Variante de busca por letra descartada: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return resultsByQuery;
+    }
+
+    private List<Map<String, String>> searchLyricsVariant(String query) {
+        try {
+            return searchLyrics(query);
+        } catch (IOException e) {
+            logger.debug("Falha na variante de busca por letra '{}': {}", query, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private List<Map<String, String>> rankLyricsResults(List<List<Map<String, String>>> resultsByQuery) {
+        Map<String, RankedResult> byVideoId = new LinkedHashMap<>();
+        for (int queryIndex = 0; queryIndex < resultsByQuery.size(); queryIndex++) {
+            List<Map<String, String>> results = resultsByQuery.get(queryIndex);
+            for (int position = 0; position < results.size(); position++) {
+                Map<String, String> result = results.get(position);
+                RankedResult ranked = byVideoId.computeIfAbsent(result.get("videoId"), videoId -> new RankedResult(result));
+                ranked.score += LYRICS_MAX_RESULTS - position;
+                if (queryIndex == 0) {
+                    ranked.score += 2;
                 }
-                queryBuilder.append(line);
-                lineCount++;
             }
-            if (lineCount >= 2) break;
         }
 
-        String query = queryBuilder.toString();
+        for (RankedResult ranked : byVideoId.values()) {
+            if (TitleParser.looksLikeMusicTitle(ranked.result.get("originalTitle"))) {
+                ranked.score += 2;
+            }
+        }
+
+        return byVideoId.values().stream()
+            .sorted(Comparator.comparingInt((RankedResult ranked) -> ranked.score).reversed())
+            .limit(LYRICS_MAX_RESULTS)
+            .<Map<String, String>>map(ranked -> new HashMap<>(ranked.result))
+            .toList();
+    }
+
+    private List<Map<String, String>> fetchMusicVideo(String musicName, String bandName) throws IOException {
+        String query = musicName + " " + bandName + " official";
+
+        YouTube.Search.List search = youtube.search()
+            .list(List.of("id", "snippet"));
+
+        search.setKey(apiKey);
+        search.setQ(query);
+        search.setType(List.of("video"));
+        search.setMaxResults(MAX_RESULTS);
+        search.setVideoCategoryId("10");
+        search.setFields("items(id/videoId,snippet/thumbnails/high/url)");
+
+        SearchListResponse searchResponse = execute(search, YouTubeQuotaBudget.SEARCH_COST);
+        List<SearchResult> searchResults = searchResponse.getItems();
+
+        if (searchResults == null || searchResults.isEmpty()) {
+            return List.of();
+        }
+
+        SearchResult firstResult = searchResults.get(0);
+        Map<String, String> result = new HashMap<>();
+        result.put("videoId", firstResult.getId().getVideoId());
+        result.put("thumbnailUrl", firstResult.getSnippet().getThumbnails().getHigh().getUrl());
+        return List.of(result);
+    }
+
+    public Map<String, String> fetchThumbnails(Collection<String> videoIds) throws IOException {
+        Map<String, String> thumbnails = new HashMap<>();
+        if (videoIds.isEmpty()) {
+            return thumbnails;
+        }
 
-        query = removeAccents(query);
-        query = query.replaceAll("[,;.!?]", " ");
-        query = query.replaceAll("\\s+", " ");
-        query = query.trim();
+        YouTube.Videos.List request = youtube.videos()
+            .list(List.of("snippet"));
 
-        if (query.length() > 60) {
-            query = query.substring(0, 60);
-            int lastSpace = query.lastIndexOf(' ');
-            if (lastSpace > 30) {
-                query = query.substring(0, lastSpace);
+        request.setKey(apiKey);
+        request.setId(List.copyOf(videoIds));
+        request.setFields("items(id,snippet/thumbnails/high/url)");
+
+        VideoListResponse response = execute(request, YouTubeQuotaBudget.VIDEOS_LIST_COST);
+        if (response.getItems() == null) {
+            return thumbnails;
+        }
+
+        for (Video video : response.getItems()) {
+            String thumbnailUrl = null;
+            if (video.getSnippet() != null && video.getSnippet().getThumbnails() != null
+                    && video.getSnippet().getThumbnails().getHigh() != null) {
+                thumbnailUrl = video.getSnippet().getThumbnails().getHigh().getUrl();
             }
+            thumbnails.put(video.getId(), thumbnailUrl != null ? thumbnailUrl
+                : "https://i.ytimg.com/vi/" + video.getId() + "/hqdefault.jpg");
         }
+        return thumbnails;
+    }
 
-        query = query + " lyrics";
+    public SingleFlight.Stats getSearchStats() {
+        return searchFlight.stats();
+    }
 
-        return query;
+    private static final class RankedResult {
+        private final Map<String, String> result;
+        private int score;
+
+        private RankedResult(Map<String, String> result) {
+            this.result = result;
+        }
     }
 
-    private String removeAccents(String text) {
-        String normalized = java.text.Normalizer.normalize(text, java.text.Normalizer.Form.NFD);
-        return normalized.replaceAll("[^\\p{ASCII}]", "");
+    private List<Map<String, String>> searchLyrics(String optimizedQuery) throws IOException {
+        return search(YouTubeSearchCache.lyricsKey(optimizedQuery), () -> fetchLyricsResults(optimizedQuery));
     }
 
-    private String[] extractMusicInfo(String title) {
-        title = title.replaceAll("(?i)\\(official.*?\\)", "")
-                    .replaceAll("(?i)\\[official.*?\\]", "")
-                    .replaceAll("(?i)official video", "")
-                    .replaceAll("(?i)official audio", "")
-                    .replaceAll("(?i)official music video", "")
-                    .replaceAll("(?i)\\(lyrics\\)", "")
-                    .replaceAll("(?i)\\[lyrics\\]", "")
-                    .replaceAll("(?i)lyrics", "")
-                    .replaceAll("(?i)lyric video", "")
-                    .replaceAll("(?i)HD", "")
-                    .replaceAll("(?i)4K", "")
-                    .trim();
-
-        String musicName;
-        String bandName;
-
-        if (title.contains(" - ")) {
-            String[] parts = title.split(" - ", 2);
-            bandName = parts[0].trim();
-            musicName = parts[1].trim();
+    private <T> T execute(YouTubeRequest<T> request, int cost) throws IOException {
+        if (quotaBudget.remaining() < cost) {
+            throw new YouTubeUnavailableException("Cota diária do YouTube esgotada", quotaBudget.nextReset());
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            throw new YouTubeUnavailableException("Circuito do YouTube aberto", circuitBreaker.getRetryAt());
         }
-        else if (title.contains("|")) {
-            String[] parts = title.split("\\|", 2);
-            bandName = parts[0].trim();
-            musicName = parts[1].trim();
+        if (!quotaBudget.tryConsume(cost)) {
+            circuitBreaker.release();
+            throw new YouTubeUnavailableException("Cota diária do YouTube esgotada", quotaBudget.nextReset());
         }
-        else {
-            musicName = title;
-            bandName = "Desconhecido";
+
+        try {
+            T response = request.execute();
+            circuitBreaker.recordSuccess();
+            return response;
+        } catch (IOException e) {
+            if (isQuotaExceeded(e)) {
+                quotaBudget.markExhausted();
+                circuitBreaker.openUntil(quotaBudget.nextReset());
+            } else {
+                circuitBreaker.recordFailure();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.release();
+            throw e;
+        }
+    }
+
+    private List<Map<String, String>> search(String key, YouTubeSearchCache.Loader loader) throws IOException {
+        try {
+            return searchFlight.execute(key, () -> searchCache.get(key, loader));
+        } catch (SingleFlight.TimeoutException e) {
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    private List<Map<String, String>> fetchLyricsResults(String optimizedQuery) throws IOException {
+        YouTube.Search.List search = youtube.search()
+            .list(List.of("id", "snippet"));
+
+        search.setKey(apiKey);
+        search.setQ(optimizedQuery);
+        search.setType(List.of("video"));
+        search.setMaxResults((long) LYRICS_MAX_RESULTS);
+        search.setFields("items(id/videoId,snippet(title,thumbnails/high/url))");
+
+        SearchListResponse searchResponse = execute(search, YouTubeQuotaBudget.SEARCH_COST);
+        List<SearchResult> searchResults = searchResponse.getItems();
+
+        List<Map<String, String>> results = new java.util.ArrayList<>();
+        if (searchResults == null) {
+            return results;
+        }
+
+        for (SearchResult result : searchResults) {
+            String title = result.getSnippet().getTitle();
+            TitleParser.ParsedTitle parsed = TitleParser.parse(title);
+
+            Map<String, String> resultMap = new HashMap<>();
+            resultMap.put("videoId", result.getId().getVideoId());
+            resultMap.put("thumbnailUrl", result.getSnippet().getThumbnails().getHigh().getUrl());
+            resultMap.put("musicName", parsed.musicName());
+            resultMap.put("bandName", parsed.bandName());
+            resultMap.put("originalTitle", title);
+
+            results.add(resultMap);
         }
 
-        return new String[]{musicName, bandName};
+        return results;
     }
 }
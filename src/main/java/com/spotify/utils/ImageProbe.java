@@ -0,0 +1,198 @@
+package com.spotify.utils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class ImageProbe {
+
+    private static final int MAX_JPEG_SCAN_BYTES = 512 * 1024;
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private ImageProbe() {
+    }
+
+    public static ImageInfo probe(InputStream input) throws IOException {
+        try {
+            return read(new DataInputStream(new BufferedInputStream(input, 4096)));
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static ImageInfo read(DataInputStream in) throws IOException {
+        byte[] magic = new byte[4];
+        in.readFully(magic);
+
+        if ((magic[0] & 0xFF) == 0xFF && (magic[1] & 0xFF) == 0xD8) {
+            return probeJpeg(in, magic);
+        }
+        if (startsWith(magic, PNG_SIGNATURE)) {
+            return probePng(in);
+        }
+        if (magic[0] == 'R' && magic[1] == 'I' && magic[2] == 'F' && magic[3] == 'F') {
+            return probeWebp(in);
+        }
+        return null;
+    }
+
+    private static ImageInfo probeJpeg(DataInputStream in, byte[] magic) throws IOException {
+        int consumed = magic.length;
+        int next = magic[2] & 0xFF;
+        int marker = magic[3] & 0xFF;
+
+        while (consumed < MAX_JPEG_SCAN_BYTES) {
+            if (next != 0xFF) {
+                return null;
+            }
+            while (marker == 0xFF) {
+                marker = in.readUnsignedByte();
+                consumed++;
+            }
+
+            if (marker == 0xD9 || marker == 0xDA) {
+                return null;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                next = in.readUnsignedByte();
+                marker = in.readUnsignedByte();
+                consumed += 2;
+                continue;
+            }
+
+            int length = in.readUnsignedShort();
+            consumed += 2;
+            if (length < 2) {
+                return null;
+            }
+
+            if (isStartOfFrame(marker)) {
+                in.readUnsignedByte();
+                int height = in.readUnsignedShort();
+                int width = in.readUnsignedShort();
+                return new ImageInfo(Format.JPEG, width, height);
+            }
+
+            in.skipNBytes(length - 2);
+            consumed += length - 2;
+            next = in.readUnsignedByte();
+            marker = in.readUnsignedByte();
+            consumed += 2;
+        }
+        return null;
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static ImageInfo probePng(DataInputStream in) throws IOException {
+        byte[] rest = new byte[PNG_SIGNATURE.length - 4];
+        in.readFully(rest);
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] != PNG_SIGNATURE[i + 4]) {
+                return null;
+            }
+        }
+
+        in.readInt();
+        if (in.readInt() != 0x49484452) {
+            return null;
+        }
+        int width = in.readInt();
+        int height = in.readInt();
+        return new ImageInfo(Format.PNG, width, height);
+    }
+
+    private static ImageInfo probeWebp(DataInputStream in) throws IOException {
+        in.readInt();
+        byte[] fourCc = new byte[4];
+        in.readFully(fourCc);
+        if (fourCc[0] != 'W' || fourCc[1] != 'E' || fourCc[2] != 'B' || fourCc[3] != 'P') {
+            return null;
+        }
+
+        in.readFully(fourCc);
+        in.readInt();
+        String chunk = new String(fourCc, StandardCharsets.US_ASCII);
+
+        switch (chunk) {
+            case "VP8 " -> {
+                in.skipNBytes(3);
+                if (in.readUnsignedByte() != 0x9D || in.readUnsignedByte() != 0x01 || in.readUnsignedByte() != 0x2A) {
+                    return null;
+                }
+                int width = readUnsignedShortLe(in) & 0x3FFF;
+                int height = readUnsignedShortLe(in) & 0x3FFF;
+                return new ImageInfo(Format.WEBP, width, height);
+            }
+            case "VP8L" -> {
+                if (in.readUnsignedByte() != 0x2F) {
+                    return null;
+                }
+                int bits = in.readUnsignedByte()
+                    | in.readUnsignedByte() << 8
+                    | in.readUnsignedByte() << 16
+                    | in.readUnsignedByte() << 24;
+                int width = (bits & 0x3FFF) + 1;
+                int height = ((bits >>> 14) & 0x3FFF) + 1;
+                return new ImageInfo(Format.WEBP, width, height);
+            }
+            case "VP8X" -> {
+                in.skipNBytes(4);
+                int width = readUnsignedInt24Le(in) + 1;
+                int height = readUnsignedInt24Le(in) + 1;
+                return new ImageInfo(Format.WEBP, width, height);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private static int readUnsignedShortLe(DataInputStream in) throws IOException {
+        return in.readUnsignedByte() | in.readUnsignedByte() << 8;
+    }
+
+    private static int readUnsignedInt24Le(DataInputStream in) throws IOException {
+        return in.readUnsignedByte() | in.readUnsignedByte() << 8 | in.readUnsignedByte() << 16;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public enum Format {
+        JPEG("image/jpeg"),
+        PNG("image/png"),
+        WEBP("image/webp");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public boolean matches(String declaredContentType) {
+            if (this == JPEG && "image/jpg".equals(declaredContentType)) {
+                return true;
+            }
+            return contentType.equals(declaredContentType);
+        }
+    }
+
+    public record ImageInfo(Format format, int width, int height) {
+    }
+}
@@ -2,9 +2,8 @@ package com.spotify.utils;
 
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
 
 public class ImageValidator {
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
@@ -26,15 +25,12 @@ public class ImageValidator {
             throw new IllegalArgumentException("Arquivo muito grande. Tamanho máximo: 5MB");
         }
 
-        BufferedImage image = ImageIO.read(file.getInputStream());
-        if (image == null) {
-            throw new IllegalArgumentException("Arquivo de imagem corrompido ou inválido");
-        }
+        ImageProbe.ImageInfo image = probe(file, contentType);
 
-        if (image.getWidth() != REQUIRED_WIDTH || image.getHeight() != REQUIRED_HEIGHT) {
+        if (image.width() != REQUIRED_WIDTH || image.height() != REQUIRED_HEIGHT) {
             throw new IllegalArgumentException(
                 String.format("Dimensões inválidas. Requerido: %dx%d pixels. Recebido: %dx%d pixels",
-                    REQUIRED_WIDTH, REQUIRED_HEIGHT, image.getWidth(), image.getHeight())
+                    REQUIRED_WIDTH, REQUIRED_HEIGHT, image.width(), image.height())
             );
         }
     }
@@ -53,10 +49,22 @@ public class ImageValidator {
             throw new IllegalArgumentException("Arquivo muito grande. Tamanho máximo: 5MB");
         }
 
-        BufferedImage image = ImageIO.read(file.getInputStream());
-        if (image == null) {
+        probe(file, contentType);
+    }
+
+    private static ImageProbe.ImageInfo probe(MultipartFile file, String contentType) throws IOException {
+        ImageProbe.ImageInfo image;
+        try (InputStream input = file.getInputStream()) {
+            image = ImageProbe.probe(input);
+        }
+
+        if (image == null || image.width() <= 0 || image.height() <= 0) {
             throw new IllegalArgumentException("Arquivo de imagem corrompido ou inválido");
         }
+        if (!image.format().matches(contentType)) {
+            throw new IllegalArgumentException("O conteúdo do arquivo não corresponde ao tipo informado");
+        }
+        return image;
     }
 
     private static boolean isAllowedType(String contentType) {
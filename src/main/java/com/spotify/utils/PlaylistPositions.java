@@ -0,0 +1,49 @@
+package com.spotify.utils;
+
+public class PlaylistPositions {
+
+    public static final int GAP = 1024;
+
+    private PlaylistPositions() {
+    }
+
+    public static int first() {
+        return GAP;
+    }
+
+    public static Integer after(Integer lower) {
+        if (lower == null) {
+            return first();
+        }
+        return fit((long) lower + GAP);
+    }
+
+    public static Integer between(Integer lower, Integer upper) {
+        if (lower == null && upper == null) {
+            return first();
+        }
+        if (upper == null) {
+            return after(lower);
+        }
+        if (lower == null) {
+            return fit((long) upper - GAP);
+        }
+
+        long middle = ((long) lower + upper) / 2;
+        if (middle <= lower || middle >= upper) {
+            return null;
+        }
+        return (int) middle;
+    }
+
+    public static boolean isCrowded(Integer lower, int position, Integer upper) {
+        return (lower != null && position - lower < 2) || (upper != null && upper - position < 2);
+    }
+
+    private static Integer fit(long position) {
+        if (position <= Integer.MIN_VALUE || position >= Integer.MAX_VALUE) {
+            return null;
+        }
+        return (int) position;
+    }
+}
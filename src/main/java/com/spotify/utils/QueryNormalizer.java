@@ -0,0 +1,166 @@
+package com.spotify.utils;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class QueryNormalizer {
+
+    private static final int LYRICS_QUERY_LINES = 2;
+    private static final int MAX_LYRICS_QUERY_LENGTH = 60;
+    private static final int MIN_TRUNCATED_LENGTH = 30;
+    private static final String LYRICS_QUERY_SUFFIX = " lyrics";
+
+    private QueryNormalizer() {
+    }
+
+    public static String lyricsQuery(String lyrics) {
+        return toLyricsQuery(firstLines(lyrics, 0, LYRICS_QUERY_LINES), true, LYRICS_QUERY_SUFFIX);
+    }
+
+    public static List<String> lyricsQueryVariants(String lyrics, int maxVariants) {
+        Set<String> variants = new LinkedHashSet<>();
+        String opening = firstLines(lyrics, 0, LYRICS_QUERY_LINES);
+
+        variants.add(toLyricsQuery(opening, true, LYRICS_QUERY_SUFFIX));
+
+        int lineCount = countLines(lyrics);
+        if (lineCount >= LYRICS_QUERY_LINES * 2) {
+            String middle = firstLines(lyrics, lineCount / 2, LYRICS_QUERY_LINES);
+            variants.add(toLyricsQuery(middle, true, LYRICS_QUERY_SUFFIX));
+        }
+
+        variants.add(toLyricsQuery(opening, false, LYRICS_QUERY_SUFFIX));
+        variants.add(toLyricsQuery(opening, true, ""));
+
+        variants.removeIf(String::isBlank);
+        return variants.stream().limit(Math.max(1, maxVariants)).toList();
+    }
+
+    public static String cacheKey(String value) {
+        if (value == null) {
+            return "";
+        }
+        return collapse(stripAccents(value), false, true);
+    }
+
+    public static String stripAccents(String text) {
+        if (isAscii(text)) {
+            return text;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder ascii = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c <= 0x7F) {
+                ascii.append(c);
+            }
+        }
+        return ascii.toString();
+    }
+
+    private static String toLyricsQuery(String lines, boolean foldAccents, String suffix) {
+        String query = collapse(foldAccents ? stripAccents(lines) : lines, true, false);
+
+        if (query.length() > MAX_LYRICS_QUERY_LENGTH) {
+            query = query.substring(0, MAX_LYRICS_QUERY_LENGTH);
+            int lastSpace = query.lastIndexOf(' ');
+            if (lastSpace > MIN_TRUNCATED_LENGTH) {
+                query = query.substring(0, lastSpace);
+            }
+        }
+
+        return query + suffix;
+    }
+
+    private static int countLines(String text) {
+        int count = 0;
+        int start = 0;
+        while (start <= text.length()) {
+            int end = text.indexOf('\n', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            if (!text.substring(start, end).trim().isEmpty()) {
+                count++;
+            }
+            start = end + 1;
+        }
+        return count;
+    }
+
+    private static String firstLines(String text, int skipLines, int maxLines) {
+        StringBuilder lines = new StringBuilder(Math.min(text.length(), 256));
+        int skipped = 0;
+        int lineCount = 0;
+        int start = 0;
+
+        while (start <= text.length() && lineCount < maxLines) {
+            int end = text.indexOf('\n', start);
+            if (end < 0) {
+                end = text.length();
+            }
+
+            int lineStart = start;
+            int lineEnd = end;
+            while (lineStart < lineEnd && text.charAt(lineStart) <= ' ') {
+                lineStart++;
+            }
+            while (lineEnd > lineStart && text.charAt(lineEnd - 1) <= ' ') {
+                lineEnd--;
+            }
+
+            if (lineStart < lineEnd && skipped < skipLines) {
+                skipped++;
+            } else if (lineStart < lineEnd) {
+                if (lineCount > 0) {
+                    lines.append(' ');
+                }
+                lines.append(text, lineStart, lineEnd);
+                lineCount++;
+            }
+            start = end + 1;
+        }
+
+        return lines.toString();
+    }
+
+    private static String collapse(String text, boolean punctuationAsSpace, boolean lowerCase) {
+        StringBuilder out = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isWhitespace(c) || (punctuationAsSpace && isPunctuation(c))) {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(lowerCase && c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+
+        return out.toString().trim();
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isPunctuation(char c) {
+        return c == ',' || c == ';' || c == '.' || c == '!' || c == '?';
+    }
+}
@@ -0,0 +1,97 @@
+package com.spotify.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SingleFlight<K, V> {
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final String name;
+    private final Duration waitTimeout;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(String name, Duration waitTimeout) {
+        this.name = name;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public <E extends Exception> V execute(K key, Call<V, E> call) throws E {
+        calls.increment();
+
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            coalesced.increment();
+            logger.debug("[{}] Coalescing call for key {}", name, key);
+            return await(key, existing);
+        }
+
+        executions.increment();
+        try {
+            V value = call.call();
+            own.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            failures.increment();
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(name, calls.sum(), executions.sum(), coalesced.sum(),
+                failures.sum(), timeouts.sum(), inFlight.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> V await(K key, CompletableFuture<V> future) throws E {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            timeouts.increment();
+            throw new TimeoutException(name, key, waitTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(name, key, waitTimeout);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw (E) cause;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Call<V, E extends Exception> {
+        V call() throws E;
+    }
+
+    public record Stats(String name, long calls, long executions, long coalesced,
+                        long failures, long timeouts, int inFlight) {
+    }
+
+    public static class TimeoutException extends RuntimeException {
+        public TimeoutException(String name, Object key, Duration waitTimeout) {
+            super("[" + name + "] Tempo esgotado aguardando chamada em andamento para " + key
+                    + " (" + waitTimeout.toMillis() + " ms)");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.spotify.utils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class TitleParser {
+
+    private static final String UNKNOWN_BAND = "Desconhecido";
+    private static final String[] MUSIC_TITLE_HINTS = {"lyrics", "letra", "music", "official", "audio"};
+
+    private static final List<Pattern> NOISE_PATTERNS = List.of(
+        Pattern.compile("(?i)\\(official.*?\\)"),
+        Pattern.compile("(?i)\\[official.*?\\]"),
+        Pattern.compile("(?i)official video"),
+        Pattern.compile("(?i)official audio"),
+        Pattern.compile("(?i)official music video"),
+        Pattern.compile("(?i)\\(lyrics\\)"),
+        Pattern.compile("(?i)\\[lyrics\\]"),
+        Pattern.compile("(?i)lyrics"),
+        Pattern.compile("(?i)lyric video"),
+        Pattern.compile("(?i)HD"),
+        Pattern.compile("(?i)4K")
+    );
+
+    private TitleParser() {
+    }
+
+    public static ParsedTitle parse(String title) {
+        String cleaned = title;
+        for (Pattern pattern : NOISE_PATTERNS) {
+            cleaned = pattern.matcher(cleaned).replaceAll("");
+        }
+        cleaned = cleaned.trim();
+
+        int separator = cleaned.indexOf(" - ");
+        if (separator >= 0) {
+            return new ParsedTitle(cleaned.substring(separator + 3).trim(), cleaned.substring(0, separator).trim());
+        }
+
+        separator = cleaned.indexOf('|');
+        if (separator >= 0) {
+            return new ParsedTitle(cleaned.substring(separator + 1).trim(), cleaned.substring(0, separator).trim());
+        }
+
+        return new ParsedTitle(cleaned, UNKNOWN_BAND);
+    }
+
+    public static boolean looksLikeMusicTitle(String title) {
+        if (title.indexOf('-') >= 0 || title.indexOf('|') >= 0) {
+            return true;
+        }
+
+        String lowerTitle = title.toLowerCase();
+        for (String hint : MUSIC_TITLE_HINTS) {
+            if (lowerTitle.contains(hint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public record ParsedTitle(String musicName, String bandName) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.spotify.services;
+
+import com.spotify.entities.Music;
+import com.spotify.entities.Playlist;
+import com.spotify.entities.PlaylistMusic;
+import com.spotify.entities.User;
+import com.spotify.repositories.MusicRepository;
+import com.spotify.repositories.PlaylistMusicRepository;
+import com.spotify.repositories.PlaylistRepository;
+import com.spotify.repositories.UserRepository;
+import com.spotify.utils.PlaylistPositions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:positions;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PlaylistPositionAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlaylistPositionAllocatorTest {
+    private static final int PARALLEL_ADDS = 300;
+    private static final int THREADS = 24;
+    private static final int EXISTING_POSITION = 5 * PlaylistPositions.GAP;
+
+    @Autowired
+    private PlaylistPositionAllocator positionAllocator;
+
+    @Autowired
+    private PlaylistRepository playlistRepository;
+
+    @Autowired
+    private PlaylistMusicRepository playlistMusicRepository;
+
+    @Autowired
+    private MusicRepository musicRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long playlistId;
+    private List<String> musicIds;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            playlistMusicRepository.deleteAll();
+            playlistRepository.deleteAll();
+            musicRepository.deleteAll();
+            userRepository.deleteAll();
+
+            User user = new User();
+            user.setName("Owner");
+            user.setEmail("owner@example.com");
+            user.setPassword("secret");
+            userRepository.save(user);
+
+            Playlist playlist = new Playlist();
+            playlist.setName("Parallel");
+            playlist.setUser(user);
+            playlistId = playlistRepository.save(playlist).getId();
+
+            musicIds = new ArrayList<>();
+            for (int i = 0; i <= PARALLEL_ADDS; i++) {
+                Music music = new Music();
+                music.setId(UUID.randomUUID().toString());
+                music.setName("Track " + i);
+                music.setGenre("Rock");
+                music.setBand("Band");
+                musicRepository.save(music);
+                musicIds.add(music.getId());
+            }
+
+            insertTrack(playlist, musicIds.get(0), EXISTING_POSITION);
+        });
+    }
+
+    @Test
+    void parallelAddsNeverShareAPosition() throws Exception {
+        List<Integer> positions = runInParallel(PARALLEL_ADDS, i -> 1);
+
+        assertThat(positions).doesNotContainNull();
+        assertThat(new HashSet<>(positions)).hasSize(PARALLEL_ADDS);
+        assertThat(positions).allSatisfy(position -> assertThat(position).isGreaterThan(EXISTING_POSITION));
+        assertThat(positions.stream().mapToInt(Integer::intValue).max().orElseThrow())
+                .isEqualTo(EXISTING_POSITION + PARALLEL_ADDS * PlaylistPositions.GAP);
+
+        Set<Integer> stored = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            Playlist playlist = playlistRepository.findById(playlistId).orElseThrow();
+            playlistMusicRepository.findByPlaylistOrderByPositionAsc(playlist)
+                    .forEach(track -> stored.add(track.getPosition()));
+        });
+        assertThat(stored).hasSize(PARALLEL_ADDS + 1);
+    }
+
+    @Test
+    void parallelBulkAddsReceiveDisjointRanges() throws Exception {
+        int adds = PARALLEL_ADDS / 3;
+        List<Integer> firstPositions = runInParallel(adds, i -> 1 + i % 3);
+
+        Set<Integer> reserved = new HashSet<>();
+        for (int i = 0; i < adds; i++) {
+            int count = 1 + i % 3;
+            for (int offset = 0; offset < count; offset++) {
+                assertThat(reserved.add(firstPositions.get(i) + offset * PlaylistPositions.GAP)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void resetContinuesAfterTheHighestStoredPosition() {
+        Integer position = transactionTemplate.execute(status -> {
+            Playlist playlist = playlistRepository.findById(playlistId).orElseThrow();
+            positionAllocator.allocate(playlist, 50);
+            positionAllocator.reset(playlistId);
+            return positionAllocator.allocate(playlist);
+        });
+
+        assertThat(position).isEqualTo(EXISTING_POSITION + PlaylistPositions.GAP);
+    }
+
+    private List<Integer> runInParallel(int adds, IntUnaryOperator countFor) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(adds);
+            for (int i = 0; i < adds; i++) {
+                String musicId = musicIds.get(i + 1);
+                int count = countFor.applyAsInt(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return transactionTemplate.execute(status -> {
+                        Playlist playlist = playlistRepository.findById(playlistId).orElseThrow();
+                        Integer position = positionAllocator.allocate(playlist, count);
+                        insertTrack(playlist, musicId, position);
+                        playlistRepository.touch(playlistId, LocalDateTime.now());
+                        return position;
+                    });
+                }));
+            }
+
+            start.countDown();
+            List<Integer> positions = new ArrayList<>(adds);
+            for (Future<Integer> future : futures) {
+                positions.add(future.get(2, TimeUnit.MINUTES));
+            }
+            return positions;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void insertTrack(Playlist playlist, String musicId, Integer position) {
+        PlaylistMusic track = new PlaylistMusic();
+        track.setPlaylist(playlist);
+        track.setMusic(musicRepository.getReferenceById(musicId));
+        track.setPosition(position);
+        playlistMusicRepository.save(track);
+    }
+}
@@ -0,0 +1,250 @@
+package com.spotify.services;
+
+import com.spotify.exceptions.YouTubeUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class YouTubeResilienceTest {
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(60);
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(30);
+    private static final long DAILY_BUDGET = 10_000;
+    private static final String VIDEOS_OK = "{\"items\":[{\"id\":\"abc\",\"snippet\":{\"thumbnails\":"
+            + "{\"high\":{\"url\":\"https://i.ytimg.com/vi/abc/hqdefault.jpg\"}}}}]}";
+    private static final String QUOTA_EXCEEDED = "{\"error\":{\"code\":403,\"message\":\"quota\",\"errors\":"
+            + "[{\"domain\":\"youtube.quota\",\"reason\":\"quotaExceeded\",\"message\":\"quota\"}]}}";
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile String body = VIDEOS_OK;
+
+    private MutableClock clock;
+    private YouTubeCircuitBreaker circuitBreaker;
+    private ValueOperations<String, String> valueOperations;
+    private YouTubeQuotaBudget quotaBudget;
+    private YouTubeService youTubeService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/youtube/v3/videos", exchange -> {
+            hits.incrementAndGet();
+            byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(anyString(), anyLong())).thenReturn(1L);
+
+        clock = new MutableClock(Instant.parse("2026-01-01T12:00:00Z"));
+        circuitBreaker = new YouTubeCircuitBreaker(FAILURE_THRESHOLD, OPEN_DURATION, PROBE_TIMEOUT, clock);
+        quotaBudget = new YouTubeQuotaBudget(redisTemplate, DAILY_BUDGET);
+
+        String rootUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+        youTubeService = new YouTubeService(mock(YouTubeSearchCache.class), quotaBudget, circuitBreaker,
+                Runnable::run, rootUrl, 1000, 1000);
+        ReflectionTestUtils.setField(youTubeService, "apiKey", "test-key");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void closedCircuitOpensAfterConsecutiveFailures() {
+        status = 500;
+        body = "{\"error\":{\"code\":500,\"message\":\"backend\"}}";
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::fetch).isInstanceOf(IOException.class)
+                    .isNotInstanceOf(YouTubeUnavailableException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+        assertThat(youTubeService.isAvailable()).isFalse();
+        assertThatThrownBy(this::fetch).isInstanceOf(YouTubeUnavailableException.class);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void openCircuitBecomesHalfOpenAfterCooldown() {
+        openCircuit();
+
+        clock.advance(OPEN_DURATION.minusSeconds(1));
+        assertThat(circuitBreaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(circuitBreaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.HALF_OPEN);
+        assertThat(youTubeService.isAvailable()).isTrue();
+    }
+
+    @Test
+    void halfOpenCircuitAllowsSingleProbe() {
+        openCircuit();
+        clock.advance(OPEN_DURATION);
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() throws IOException {
+        openCircuit();
+        clock.advance(OPEN_DURATION);
+        status = 200;
+        body = VIDEOS_OK;
+
+        Map<String, String> thumbnails = fetch();
+
+        assertThat(thumbnails).containsEntry("abc", "https://i.ytimg.com/vi/abc/hqdefault.jpg");
+        assertThat(circuitBreaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedProbeReopensCircuit() {
+        openCircuit();
+        clock.advance(OPEN_DURATION);
+
+        assertThatThrownBy(this::fetch).isInstanceOf(IOException.class)
+                .isNotInstanceOf(YouTubeUnavailableException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getRetryAt()).isEqualTo(clock.instant().plus(OPEN_DURATION));
+    }
+
+    @Test
+    void lostProbeIsReplacedAfterProbeTimeout() {
+        openCircuit();
+        clock.advance(OPEN_DURATION);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        clock.advance(PROBE_TIMEOUT.minusSeconds(1));
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void quotaErrorForcesCircuitOpenUntilReset() {
+        status = 403;
+        body = QUOTA_EXCEEDED;
+
+        assertThatThrownBy(this::fetch).isInstanceOf(IOException.class)
+                .isNotInstanceOf(YouTubeUnavailableException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getRetryAt()).isEqualTo(quotaBudget.nextReset());
+        verify(valueOperations).set(anyString(), eq(String.valueOf(DAILY_BUDGET)), any(Duration.class));
+
+        clock.advance(OPEN_DURATION.multipliedBy(10));
+        assertThat(circuitBreaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::fetch).isInstanceOf(YouTubeUnavailableException.class);
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void exhaustedBudgetRejectsCallsWithoutReachingYouTube() {
+        when(valueOperations.get(anyString())).thenReturn(String.valueOf(DAILY_BUDGET));
+
+        assertThat(youTubeService.isAvailable()).isFalse();
+        assertThatThrownBy(this::fetch).isInstanceOf(YouTubeUnavailableException.class);
+        assertThat(hits.get()).isZero();
+    }
+
+    @Test
+    void budgetFailsOpenWhenRedisIsUnavailable() throws IOException {
+        when(valueOperations.increment(anyString(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+        when(valueOperations.get(anyString()))
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+
+        assertThat(quotaBudget.remaining()).isEqualTo(DAILY_BUDGET);
+        assertThat(quotaBudget.tryConsume(YouTubeQuotaBudget.SEARCH_COST)).isTrue();
+        assertThat(fetch()).containsKey("abc");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    private Map<String, String> fetch() throws IOException {
+        return youTubeService.fetchThumbnails(List.of("abc"));
+    }
+
+    private void openCircuit() {
+        status = 500;
+        body = "{\"error\":{\"code\":500,\"message\":\"backend\"}}";
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::fetch).isInstanceOf(IOException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
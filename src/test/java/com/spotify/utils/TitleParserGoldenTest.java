@@ -0,0 +1,88 @@
+package com.spotify.utils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleParserGoldenTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("titles")
+    void parsesTitlesLikeTheOriginalImplementation(String title, String musicName, String bandName, String looksLikeMusic) {
+        TitleParser.ParsedTitle parsed = TitleParser.parse(title);
+
+        assertThat(parsed.musicName()).isEqualTo(musicName);
+        assertThat(parsed.bandName()).isEqualTo(bandName);
+        assertThat(TitleParser.looksLikeMusicTitle(title)).isEqualTo(Boolean.parseBoolean(looksLikeMusic));
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("lyricsQueries")
+    void buildsLyricsQueriesLikeTheOriginalImplementation(String lyrics, String expectedQuery) {
+        assertThat(QueryNormalizer.lyricsQuery(lyrics)).isEqualTo(expectedQuery);
+        assertThat(QueryNormalizer.lyricsQueryVariants(lyrics, 1)).containsExactly(expectedQuery);
+    }
+
+    static Stream<Arguments> titles() {
+        return read("/title-parser/titles.txt", 4);
+    }
+
+    static Stream<Arguments> lyricsQueries() {
+        return read("/title-parser/lyrics-queries.txt", 2);
+    }
+
+    private static Stream<Arguments> read(String resource, int columns) {
+        List<Arguments> cases = new ArrayList<>();
+        try (InputStream input = TitleParserGoldenTest.class.getResourceAsStream(resource)) {
+            assertThat(input).as(resource).isNotNull();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split("\t", -1);
+                assertThat(fields).as(line).hasSize(columns);
+                Object[] values = new Object[columns];
+                for (int i = 0; i < columns; i++) {
+                    values[i] = unescape(fields[i]);
+                }
+                cases.add(Arguments.of(values));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return cases.stream();
+    }
+
+    private static String unescape(String field) {
+        StringBuilder value = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c != '\\' || i + 1 == field.length()) {
+                value.append(c);
+                continue;
+            }
+            char escaped = field.charAt(++i);
+            switch (escaped) {
+                case 'n' -> value.append('\n');
+                case 't' -> value.append('\t');
+                case 'r' -> value.append('\r');
+                default -> value.append(escaped);
+            }
+        }
+        return value.toString();
+    }
+}